@@ -0,0 +1,240 @@
+/*
+ * This file is part of the Yildiz-Engine project, licenced under the MIT License  (MIT)
+ *  Copyright (c) 2026 Grégory Van den Borre
+ *  More infos available: https://engine.yildiz-games.be
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ *  documentation files (the "Software"), to deal in the Software without restriction, including without limitation
+ *  the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ *  permit persons to whom the Software is furnished to do so, subject to the following conditions: The above copyright
+ *  notice and this permission notice shall be included in all copies or substantial portions of the  Software.
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ *  WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS
+ *  OR COPYRIGHT  HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ *  OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package be.yildizgames.module.http.benchmark;
+
+import be.yildizgames.module.http.AsyncHttpClient;
+import be.yildizgames.module.http.HttpClient;
+import be.yildizgames.module.http.HttpClientBuilder;
+import be.yildizgames.module.http.HttpResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
+
+/**
+ * Throughput of the client calls against a local server.
+ * Every operation makes as many calls in parallel as the concurrency parameter and waits for all of them,
+ * run it with: java -jar benchmark/target/benchmarks.jar
+ *
+ * @author Grégory Van den Borre
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(org.openjdk.jmh.annotations.Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class HttpClientBenchmark {
+
+    private static final String MIME = "application/octet-stream";
+
+    @Param({"SYNC", "ASYNC", "VIRTUAL"})
+    private Mode mode;
+
+    @Param({"1024", "65536", "1048576"})
+    private int payloadSize;
+
+    @Param({"1", "16", "64"})
+    private int concurrency;
+
+    private LocalServer server;
+
+    private HttpClient client;
+
+    private AsyncHttpClient asyncClient;
+
+    private ExecutorService executor;
+
+    private Path folder;
+
+    private Path upload;
+
+    private URI payloadUri;
+
+    private Payload payload;
+
+    @Setup(Level.Trial)
+    public void start() throws IOException {
+        this.server = new LocalServer(this.payloadSize);
+        this.payloadUri = this.server.uri("/payload");
+        this.payload = new Payload(this.server.payload());
+        this.folder = Files.createTempDirectory("http-benchmark");
+        this.upload = Files.write(this.folder.resolve("upload"), this.server.payload());
+        var builder = HttpClientBuilder.provide().withCodec(new PayloadCodec());
+        switch (this.mode) {
+            case SYNC -> {
+                this.client = builder.buildHttpClient();
+                this.executor = Executors.newFixedThreadPool(this.concurrency);
+            }
+            case ASYNC -> this.asyncClient = builder.buildAsyncHttpClient();
+            case VIRTUAL -> {
+                this.client = builder.withVirtualThreads().buildHttpClient();
+                this.executor = Executors.newVirtualThreadPerTaskExecutor();
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() throws IOException {
+        if (this.executor != null) {
+            this.executor.shutdownNow();
+        }
+        if (this.client != null) {
+            this.client.close();
+        }
+        if (this.asyncClient != null) {
+            this.asyncClient.close();
+        }
+        this.server.close();
+        try (var files = Files.list(this.folder)) {
+            for (var file : files.toList()) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(this.folder);
+    }
+
+    @Benchmark
+    public void getText(Blackhole blackhole) {
+        this.run(blackhole,
+                i -> this.client.getText(this.payloadUri),
+                i -> this.asyncClient.getText(this.payloadUri));
+    }
+
+    @Benchmark
+    public void getObject(Blackhole blackhole) {
+        this.run(blackhole,
+                i -> this.client.getObject(this.payloadUri, Payload.class),
+                i -> this.asyncClient.getObject(this.payloadUri, Payload.class));
+    }
+
+    @Benchmark
+    public void postObject(Blackhole blackhole) {
+        var uri = this.server.uri("/echo").toString();
+        this.run(blackhole,
+                i -> checked(this.client.postObject(uri, this.payload, Payload.class)),
+                i -> this.asyncClient.postObject(uri, this.payload, Payload.class));
+    }
+
+    @Benchmark
+    public void getInputStream(Blackhole blackhole) {
+        this.run(blackhole,
+                i -> readAll(this.client.getInputStream(this.payloadUri)),
+                i -> this.asyncClient.getInputStream(this.payloadUri)
+                        .thenApply(r -> new HttpResponse<>(checked(r).getHttpCode(), readAll(r.getBody()), r.getHeaders())));
+    }
+
+    @Benchmark
+    public void receiveFile(Blackhole blackhole) {
+        this.run(blackhole,
+                i -> {
+                    var destination = this.folder.resolve("download-" + i);
+                    this.client.receiveFile(this.payloadUri, destination);
+                    return destination;
+                },
+                i -> this.asyncClient.receiveFile(this.payloadUri, this.folder.resolve("download-" + i)));
+    }
+
+    @Benchmark
+    public void sendFile(Blackhole blackhole) {
+        var uri = this.server.uri("/upload");
+        this.run(blackhole,
+                i -> checked(this.client.sendFileResponse(uri, this.upload, MIME)),
+                i -> this.asyncClient.sendFile(uri, this.upload, MIME));
+    }
+
+    /**
+     * Make the calls in parallel and wait for all of them.
+     *
+     * @param blackhole Consumer of the results.
+     * @param blocking  Call with the blocking client, receiving the index of the call.
+     * @param async     Call with the non blocking client, receiving the index of the call.
+     */
+    private void run(Blackhole blackhole, IntFunction<Object> blocking, IntFunction<CompletableFuture<? extends HttpResponse<?>>> async) {
+        if (this.mode == Mode.ASYNC) {
+            var futures = new ArrayList<CompletableFuture<? extends HttpResponse<?>>>(this.concurrency);
+            for (int i = 0; i < this.concurrency; i++) {
+                futures.add(async.apply(i));
+            }
+            for (var future : futures) {
+                blackhole.consume(checked(future.join()));
+            }
+        } else if (this.concurrency == 1) {
+            blackhole.consume(blocking.apply(0));
+        } else {
+            var futures = new ArrayList<Future<Object>>(this.concurrency);
+            for (int i = 0; i < this.concurrency; i++) {
+                var index = i;
+                futures.add(this.executor.submit(() -> blocking.apply(index)));
+            }
+            for (var future : futures) {
+                try {
+                    blackhole.consume(future.get());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException(e);
+                } catch (ExecutionException e) {
+                    throw new IllegalStateException(e.getCause());
+                }
+            }
+        }
+    }
+
+    /**
+     * Fail the benchmark on an unsuccessful call, instead of measuring the speed of errors.
+     */
+    private static <T extends HttpResponse<?>> T checked(T response) {
+        if (response.getError().isPresent()) {
+            throw new IllegalStateException(response.getError().get());
+        }
+        if (response.getHttpCode() != 200) {
+            throw new IllegalStateException("Unexpected http code " + response.getHttpCode());
+        }
+        return response;
+    }
+
+    private static byte[] readAll(InputStream stream) {
+        try (stream) {
+            return stream.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * This file is part of the Yildiz-Engine project, licenced under the MIT License  (MIT)
+ *  Copyright (c) 2026 Grégory Van den Borre
+ *  More infos available: https://engine.yildiz-games.be
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ *  documentation files (the "Software"), to deal in the Software without restriction, including without limitation
+ *  the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ *  permit persons to whom the Software is furnished to do so, subject to the following conditions: The above copyright
+ *  notice and this permission notice shall be included in all copies or substantial portions of the  Software.
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ *  WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS
+ *  OR COPYRIGHT  HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ *  OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package be.yildizgames.module.http.benchmark;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * In process server standing in for the real services, every exchange is handled on its own virtual thread.
+ * /payload returns the payload, /echo returns the request body, /upload consumes the request body and returns its size.
+ *
+ * @author Grégory Van den Borre
+ */
+final class LocalServer implements AutoCloseable {
+
+    private final HttpServer server;
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    private final byte[] payload;
+
+    LocalServer(int payloadSize) throws IOException {
+        super();
+        this.payload = new byte[payloadSize];
+        Arrays.fill(this.payload, (byte) 'a');
+        this.server = HttpServer.create(new InetSocketAddress("localhost", 0), 1024);
+        this.server.setExecutor(this.executor);
+        this.server.createContext("/payload", e -> reply(e, this.payload));
+        this.server.createContext("/echo", e -> reply(e, e.getRequestBody().readAllBytes()));
+        this.server.createContext("/upload", e -> {
+            var size = e.getRequestBody().transferTo(OutputStream.nullOutputStream());
+            reply(e, String.valueOf(size).getBytes());
+        });
+        this.server.start();
+    }
+
+    final URI uri(String path) {
+        return URI.create("http://localhost:" + this.server.getAddress().getPort() + path);
+    }
+
+    final byte[] payload() {
+        return this.payload;
+    }
+
+    @Override
+    public void close() {
+        this.server.stop(0);
+        this.executor.close();
+    }
+
+    private static void reply(HttpExchange exchange, byte[] body) throws IOException {
+        exchange.getResponseHeaders().add("Content-Type", "text/plain; charset=utf-8");
+        exchange.sendResponseHeaders(200, body.length);
+        try (var out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * This file is part of the Yildiz-Engine project, licenced under the MIT License  (MIT)
+ *  Copyright (c) 2026 Grégory Van den Borre
+ *  More infos available: https://engine.yildiz-games.be
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ *  documentation files (the "Software"), to deal in the Software without restriction, including without limitation
+ *  the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ *  permit persons to whom the Software is furnished to do so, subject to the following conditions: The above copyright
+ *  notice and this permission notice shall be included in all copies or substantial portions of the  Software.
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ *  WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS
+ *  OR COPYRIGHT  HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ *  OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package be.yildizgames.module.http.benchmark;
+
+import be.yildizgames.module.http.BodyCodec;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.Type;
+
+/**
+ * Codec writing the payload content as is, so the object benchmarks measure the client and not a serialization library.
+ *
+ * @author Grégory Van den Borre
+ */
+final class PayloadCodec implements BodyCodec {
+
+    @Override
+    public String mediaType() {
+        return "application/octet-stream";
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T decode(InputStream body, Type type) throws IOException {
+        return (T) new Payload(body.readAllBytes());
+    }
+
+    @Override
+    public void encode(Object value, OutputStream body) throws IOException {
+        body.write(((Payload) value).data());
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * This file is part of the Yildiz-Engine project, licenced under the MIT License  (MIT)
+ *  Copyright (c) 2026 Grégory Van den Borre
+ *  More infos available: https://engine.yildiz-games.be
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ *  documentation files (the "Software"), to deal in the Software without restriction, including without limitation
+ *  the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ *  permit persons to whom the Software is furnished to do so, subject to the following conditions: The above copyright
+ *  notice and this permission notice shall be included in all copies or substantial portions of the  Software.
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ *  WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS
+ *  OR COPYRIGHT  HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ *  OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package be.yildizgames.module.http.conformance;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * In process server the suites run against.
+ * /text returns hello, /status/{code} returns the code without body, /slow answers after two seconds,
+ * /large returns a body of LARGE bytes, /upload consumes the request body and returns its size.
+ * Exchanges are handled on platform threads, the server socket reads would pin the carrier of a virtual thread,
+ * starving the client on a single core machine.
+ *
+ * @author Grégory Van den Borre
+ */
+final class ConformanceServer implements AutoCloseable {
+
+    static final String TEXT = "hello";
+
+    static final int LARGE = 1024 * 1024;
+
+    static final long SLOW_MILLIS = 2_000;
+
+    private final HttpServer server;
+
+    private final ExecutorService executor = Executors.newCachedThreadPool(Thread.ofPlatform().daemon().factory());
+
+    private final byte[] large = new byte[LARGE];
+
+    ConformanceServer() throws IOException {
+        super();
+        for (int i = 0; i < this.large.length; i++) {
+            this.large[i] = (byte) i;
+        }
+        this.server = HttpServer.create(new InetSocketAddress("localhost", 0), 1024);
+        this.server.setExecutor(this.executor);
+        this.server.createContext("/text", e -> reply(e, 200, TEXT.getBytes(StandardCharsets.UTF_8)));
+        this.server.createContext("/status/", e -> {
+            var path = e.getRequestURI().getPath();
+            reply(e, Integer.parseInt(path.substring(path.lastIndexOf('/') + 1)), new byte[0]);
+        });
+        this.server.createContext("/slow", e -> {
+            try {
+                Thread.sleep(SLOW_MILLIS);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            reply(e, 200, TEXT.getBytes(StandardCharsets.UTF_8));
+        });
+        this.server.createContext("/large", e -> reply(e, 200, this.large));
+        this.server.createContext("/upload", e -> {
+            var size = e.getRequestBody().transferTo(OutputStream.nullOutputStream());
+            reply(e, 200, String.valueOf(size).getBytes(StandardCharsets.UTF_8));
+        });
+        this.server.start();
+    }
+
+    final URI uri(String path) {
+        return URI.create("http://localhost:" + this.server.getAddress().getPort() + path);
+    }
+
+    final byte[] large() {
+        return this.large;
+    }
+
+    /**
+     * @return An URI on a local port nothing listens to.
+     */
+    static URI unreachable() throws IOException {
+        try (var socket = new ServerSocket(0)) {
+            return URI.create("http://localhost:" + socket.getLocalPort() + "/text");
+        }
+    }
+
+    @Override
+    public void close() {
+        this.server.stop(0);
+        this.executor.shutdownNow();
+    }
+
+    private static void reply(HttpExchange exchange, int code, byte[] body) throws IOException {
+        exchange.getResponseHeaders().add("Content-Type", "text/plain; charset=utf-8");
+        exchange.sendResponseHeaders(code, body.length == 0 ? -1 : body.length);
+        try (var out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * This file is part of the Yildiz-Engine project, licenced under the MIT License  (MIT)
+ *  Copyright (c) 2026 Grégory Van den Borre
+ *  More infos available: https://engine.yildiz-games.be
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ *  documentation files (the "Software"), to deal in the Software without restriction, including without limitation
+ *  the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ *  permit persons to whom the Software is furnished to do so, subject to the following conditions: The above copyright
+ *  notice and this permission notice shall be included in all copies or substantial portions of the  Software.
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ *  WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS
+ *  OR COPYRIGHT  HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ *  OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package be.yildizgames.module.http.conformance;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Count the file descriptors opened by the process, files and sockets alike, to detect the resources a client does not release.
+ *
+ * @author Grégory Van den Borre
+ */
+final class FileDescriptors {
+
+    private FileDescriptors() {
+        super();
+    }
+
+    /**
+     * @return The number of open file descriptors, -1 if the platform does not expose it.
+     */
+    static long open() {
+        return ManagementFactory.getOperatingSystemMXBean() instanceof com.sun.management.UnixOperatingSystemMXBean unix
+                ? unix.getOpenFileDescriptorCount()
+                : -1;
+    }
+
+    /**
+     * Wait for the count to go back under a limit, the connections being closed asynchronously by some implementations.
+     *
+     * @param limit    Maximum number of descriptors expected.
+     * @param timeout  Maximum time to wait, in milliseconds.
+     * @return The last count read.
+     */
+    static long awaitAtMost(long limit, long timeout) throws InterruptedException {
+        var deadline = System.currentTimeMillis() + timeout;
+        var count = open();
+        while (count > limit && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+            count = open();
+        }
+        return count;
+    }
+}
@@ -0,0 +1,213 @@
+/*
+ * This file is part of the Yildiz-Engine project, licenced under the MIT License  (MIT)
+ *  Copyright (c) 2026 Grégory Van den Borre
+ *  More infos available: https://engine.yildiz-games.be
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ *  documentation files (the "Software"), to deal in the Software without restriction, including without limitation
+ *  the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ *  permit persons to whom the Software is furnished to do so, subject to the following conditions: The above copyright
+ *  notice and this permission notice shall be included in all copies or substantial portions of the  Software.
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ *  WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS
+ *  OR COPYRIGHT  HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ *  OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package be.yildizgames.module.http.conformance;
+
+import be.yildizgames.module.http.HttpClientBuilder;
+import be.yildizgames.module.http.HttpCode;
+import be.yildizgames.module.http.HttpTransferListener;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Behavior every HttpClientBuilder implementation must provide, run against a local server.
+ * An implementation is validated by extending this class and providing its builder:
+ * <pre>
+ * class MyClientContractTest extends HttpClientContractTest {
+ *     protected HttpClientBuilder builder() {
+ *         return new MyClientBuilder();
+ *     }
+ * }
+ * </pre>
+ *
+ * @author Grégory Van den Borre
+ */
+public abstract class HttpClientContractTest {
+
+    private ConformanceServer server;
+
+    /**
+     * @return A new builder of the implementation under test, with its default settings.
+     */
+    protected abstract HttpClientBuilder builder();
+
+    @BeforeEach
+    void start() throws IOException {
+        this.server = new ConformanceServer();
+    }
+
+    @AfterEach
+    void stop() {
+        this.server.close();
+    }
+
+    @Test
+    void getText() {
+        try (var client = this.builder().buildHttpClient()) {
+            Assertions.assertEquals(ConformanceServer.TEXT, client.getText(this.server.uri("/text")));
+            Assertions.assertEquals(ConformanceServer.TEXT, client.getText(this.server.uri("/text").toString()));
+        }
+    }
+
+    @Test
+    void clientErrorIsIllegalState() {
+        try (var client = this.builder().buildHttpClient()) {
+            Assertions.assertThrows(IllegalStateException.class, () -> client.getText(this.server.uri("/status/404")));
+        }
+    }
+
+    @Test
+    void serverErrorIsIllegalState() {
+        try (var client = this.builder().buildHttpClient()) {
+            Assertions.assertThrows(IllegalStateException.class, () -> client.getText(this.server.uri("/status/500")));
+        }
+    }
+
+    @Test
+    void technicalFailureIsIllegalState() throws IOException {
+        var unreachable = ConformanceServer.unreachable();
+        try (var client = this.builder().buildHttpClient()) {
+            Assertions.assertThrows(IllegalStateException.class, () -> client.getText(unreachable));
+            Assertions.assertThrows(IllegalStateException.class, () -> client.getInputStream(unreachable));
+        }
+    }
+
+    @Test
+    void responseProvidesErrorCode() {
+        try (var client = this.builder().buildHttpClient()) {
+            var response = client.getTextResponse(this.server.uri("/status/404"));
+            Assertions.assertEquals(404, response.getHttpCode());
+            Assertions.assertTrue(HttpCode.isError(response.getHttpCode()));
+        }
+    }
+
+    @Test
+    void responseProvidesTechnicalFailure() throws IOException {
+        var unreachable = ConformanceServer.unreachable();
+        try (var client = this.builder().buildHttpClient()) {
+            Assertions.assertTrue(client.getTextResponse(unreachable).getError().isPresent());
+        }
+    }
+
+    @Test
+    void timeout() {
+        try (var client = this.builder().buildHttpClient(200)) {
+            var start = System.nanoTime();
+            Assertions.assertThrows(IllegalStateException.class, () -> client.getText(this.server.uri("/slow")));
+            Assertions.assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < ConformanceServer.SLOW_MILLIS,
+                    "The call must fail once the timeout is elapsed, without waiting for the response.");
+        }
+    }
+
+    @Test
+    void inputStream() throws IOException {
+        try (var client = this.builder().buildHttpClient(); var body = client.getInputStream(this.server.uri("/large"))) {
+            Assertions.assertArrayEquals(this.server.large(), body.readAllBytes());
+        }
+    }
+
+    @Test
+    void inputStreamOnErrorIsIllegalState() {
+        try (var client = this.builder().buildHttpClient()) {
+            Assertions.assertThrows(IllegalStateException.class, () -> client.getInputStream(this.server.uri("/status/404")));
+        }
+    }
+
+    @Test
+    void reader() throws IOException {
+        try (var client = this.builder().buildHttpClient(); var body = client.getReader(this.server.uri("/text"))) {
+            var buffer = new char[16];
+            Assertions.assertEquals(ConformanceServer.TEXT, new String(buffer, 0, body.read(buffer)));
+        }
+    }
+
+    @Test
+    void receiveFile(@TempDir Path folder) throws IOException {
+        var destination = folder.resolve("large.bin");
+        var received = new AtomicLong();
+        try (var client = this.builder().buildHttpClient()) {
+            client.addTransferListener(new HttpTransferListener() {
+                @Override
+                public void received(URI uri, long lastTransferred, long totalTransferred) {
+                    received.accumulateAndGet(totalTransferred, Math::max);
+                }
+            });
+            client.receiveFile(this.server.uri("/large"), destination);
+            Assertions.assertArrayEquals(this.server.large(), Files.readAllBytes(destination));
+            Assertions.assertEquals(ConformanceServer.LARGE, received.get(), "The listeners must be notified of the whole transfer once the call returns.");
+        }
+    }
+
+    @Test
+    void receiveFileOnErrorIsIllegalState(@TempDir Path folder) {
+        try (var client = this.builder().buildHttpClient()) {
+            Assertions.assertThrows(IllegalStateException.class, () -> client.receiveFile(this.server.uri("/status/404"), folder.resolve("missing.bin")));
+        }
+    }
+
+    @Test
+    void sendFile(@TempDir Path folder) throws IOException {
+        var file = Files.write(folder.resolve("large.bin"), this.server.large());
+        try (var client = this.builder().buildHttpClient()) {
+            var response = client.sendFileResponse(this.server.uri("/upload"), file, "application/octet-stream");
+            Assertions.assertEquals(200, response.getHttpCode());
+            Assertions.assertEquals(String.valueOf(ConformanceServer.LARGE), response.getBody());
+        }
+    }
+
+    @Test
+    void asyncNeverCompletesExceptionally() throws IOException {
+        var unreachable = ConformanceServer.unreachable();
+        try (var client = this.builder().buildAsyncHttpClient()) {
+            Assertions.assertEquals(ConformanceServer.TEXT, client.getText(this.server.uri("/text")).join().getBody());
+            Assertions.assertEquals(404, client.getText(this.server.uri("/status/404")).join().getHttpCode());
+            Assertions.assertTrue(client.getText(unreachable).join().getError().isPresent());
+        }
+    }
+
+    @Test
+    void asyncTimeout() {
+        try (var client = this.builder().buildAsyncHttpClient(200)) {
+            Assertions.assertTrue(client.getText(this.server.uri("/slow")).join().getError().isPresent());
+        }
+    }
+
+    @Test
+    void closeIsIdempotent() {
+        var client = this.builder().buildHttpClient();
+        Assertions.assertEquals(ConformanceServer.TEXT, client.getText(this.server.uri("/text")));
+        client.close();
+        Assertions.assertDoesNotThrow(client::close);
+    }
+
+    @Test
+    void textResponse() {
+        try (var client = this.builder().buildHttpClient()) {
+            var response = client.getTextResponse(this.server.uri("/text"));
+            Assertions.assertEquals(200, response.getHttpCode());
+            Assertions.assertEquals(ConformanceServer.TEXT, response.getBody());
+        }
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * This file is part of the Yildiz-Engine project, licenced under the MIT License  (MIT)
+ *  Copyright (c) 2026 Grégory Van den Borre
+ *  More infos available: https://engine.yildiz-games.be
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ *  documentation files (the "Software"), to deal in the Software without restriction, including without limitation
+ *  the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ *  permit persons to whom the Software is furnished to do so, subject to the following conditions: The above copyright
+ *  notice and this permission notice shall be included in all copies or substantial portions of the  Software.
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ *  WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS
+ *  OR COPYRIGHT  HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ *  OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package be.yildizgames.module.http.conformance;
+
+import be.yildizgames.module.http.HttpClient;
+import be.yildizgames.module.http.HttpClientBuilder;
+import be.yildizgames.module.http.LatencyHistogram;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+
+/**
+ * Measure the throughput and latency of an implementation against a local server, to compare the providers with each other.
+ * The report is printed and written to the directory given by the conformance.report.directory system property,
+ * target/conformance by default, in a file named after the builder class.
+ * The load is configured with the system properties conformance.report.requests, 5000 by default,
+ * and conformance.report.concurrency, 32 by default.
+ * The latencies are approximated by the upper bound of their LatencyHistogram bucket.
+ * An implementation is measured by extending this class and providing its builder.
+ *
+ * @author Grégory Van den Borre
+ */
+public abstract class HttpClientLoadReportTest {
+
+    private static final String FORMAT = "%-12s %9s %7s %12s %10s %10s %10s %10s %10s%n";
+
+    private final int requests = Integer.getInteger("conformance.report.requests", 5000);
+
+    private final int concurrency = Integer.getInteger("conformance.report.concurrency", 32);
+
+    private final Path directory = Path.of(System.getProperty("conformance.report.directory", "target/conformance"));
+
+    private ConformanceServer server;
+
+    /**
+     * @return A new builder of the implementation under test, with its default settings.
+     */
+    protected abstract HttpClientBuilder builder();
+
+    @BeforeEach
+    void start() throws IOException {
+        this.server = new ConformanceServer();
+    }
+
+    @AfterEach
+    void stop() {
+        this.server.close();
+    }
+
+    @Test
+    void report() throws IOException, InterruptedException {
+        var results = new ArrayList<Result>();
+        try (var client = this.builder().buildHttpClient()) {
+            this.run(client, "warm up", this.requests / 10, HttpClient::getText, "/text");
+            results.add(this.run(client, "small", this.requests, HttpClient::getText, "/text"));
+            results.add(this.run(client, "large", this.requests / 10, (c, u) -> drain(c, u), "/large"));
+        }
+        var report = new StringBuilder()
+                .append("Load report of ").append(this.builder().getClass().getName())
+                .append(", ").append(this.concurrency).append(" concurrent callers, latencies in microseconds")
+                .append(System.lineSeparator())
+                .append(String.format(Locale.ROOT, FORMAT, "scenario", "requests", "errors", "requests/s", "mean", "p50", "p90", "p99", "max"));
+        results.forEach(r -> report.append(r.format()));
+        System.out.print(report);
+        Files.createDirectories(this.directory);
+        Files.writeString(this.directory.resolve(this.builder().getClass().getSimpleName() + ".txt"), report);
+        results.forEach(r -> Assertions.assertEquals(0, r.errors(), () -> r.scenario() + " calls failed."));
+    }
+
+    /**
+     * Make the calls from concurrent virtual threads with a single client, recording the latency of every successful call.
+     */
+    private Result run(HttpClient client, String scenario, int calls, BiConsumer<HttpClient, URI> call, String path) throws InterruptedException {
+        var uri = this.server.uri(path);
+        var histogram = new LatencyHistogram();
+        var errors = new AtomicInteger();
+        var remaining = new AtomicInteger(calls);
+        var start = System.nanoTime();
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < this.concurrency; i++) {
+                executor.execute(() -> {
+                    while (remaining.getAndDecrement() > 0) {
+                        var begin = System.nanoTime();
+                        try {
+                            call.accept(client, uri);
+                            histogram.record(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - begin));
+                        } catch (RuntimeException e) {
+                            errors.incrementAndGet();
+                        }
+                    }
+                });
+            }
+        }
+        if (Thread.interrupted()) {
+            throw new InterruptedException();
+        }
+        return new Result(scenario, calls, errors.get(), System.nanoTime() - start, histogram);
+    }
+
+    private static void drain(HttpClient client, URI uri) {
+        try (InputStream body = client.getInputStream(uri)) {
+            body.transferTo(OutputStream.nullOutputStream());
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record Result(String scenario, int requests, int errors, long nanos, LatencyHistogram latency) {
+
+        private String format() {
+            var throughput = this.requests * 1_000_000_000.0 / Math.max(1, this.nanos);
+            return String.format(Locale.ROOT, FORMAT, this.scenario, this.requests, this.errors, String.format(Locale.ROOT, "%.1f", throughput),
+                    this.latency.mean(), this.latency.percentile(50), this.latency.percentile(90), this.latency.percentile(99), this.latency.max());
+        }
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * This file is part of the Yildiz-Engine project, licenced under the MIT License  (MIT)
+ *  Copyright (c) 2026 Grégory Van den Borre
+ *  More infos available: https://engine.yildiz-games.be
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ *  documentation files (the "Software"), to deal in the Software without restriction, including without limitation
+ *  the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ *  permit persons to whom the Software is furnished to do so, subject to the following conditions: The above copyright
+ *  notice and this permission notice shall be included in all copies or substantial portions of the  Software.
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ *  WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS
+ *  OR COPYRIGHT  HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ *  OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package be.yildizgames.module.http.conformance;
+
+import be.yildizgames.module.http.HttpClient;
+import be.yildizgames.module.http.HttpClientBuilder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * Run many calls concurrently and check the client releases its connections and file handles,
+ * whether the calls succeed, fail, or their streams are closed before being fully read.
+ * Leaks are detected with the number of file descriptors of the process, the checks are skipped on platforms not exposing it.
+ * The load is configured with the system properties conformance.soak.requests, 2000 by default,
+ * and conformance.soak.concurrency, 32 by default.
+ * An implementation is validated by extending this class and providing its builder.
+ *
+ * @author Grégory Van den Borre
+ */
+public abstract class HttpClientSoakTest {
+
+    /**
+     * Descriptors tolerated above the baseline besides the pooled connections, for the ones opened by the JVM meanwhile.
+     */
+    private static final int MARGIN = 16;
+
+    private static final long SETTLE_MILLIS = 5_000;
+
+    private final int requests = Integer.getInteger("conformance.soak.requests", 2000);
+
+    private final int concurrency = Integer.getInteger("conformance.soak.concurrency", 32);
+
+    private ConformanceServer server;
+
+    /**
+     * @return A new builder of the implementation under test, with its default settings.
+     */
+    protected abstract HttpClientBuilder builder();
+
+    @BeforeEach
+    void start() throws IOException {
+        this.server = new ConformanceServer();
+    }
+
+    @AfterEach
+    void stop() {
+        this.server.close();
+    }
+
+    @Test
+    void concurrentCalls() throws InterruptedException {
+        this.soak(this.requests, client -> Assertions.assertEquals(ConformanceServer.TEXT, client.getText(this.server.uri("/text"))));
+    }
+
+    @Test
+    void failedCalls() throws InterruptedException, IOException {
+        var unreachable = ConformanceServer.unreachable();
+        var calls = new AtomicInteger();
+        this.soak(this.requests / 4, client -> {
+            var uri = calls.incrementAndGet() % 2 == 0 ? unreachable : this.server.uri("/status/500");
+            Assertions.assertThrows(IllegalStateException.class, () -> client.getText(uri));
+        });
+    }
+
+    @Test
+    void streamsClosedEarly() throws InterruptedException {
+        this.soak(this.requests / 10, client -> {
+            try (var body = client.getInputStream(this.server.uri("/large"))) {
+                Assertions.assertTrue(body.read() >= 0);
+            } catch (IOException e) {
+                Assertions.fail(e);
+            }
+        });
+    }
+
+    @Test
+    void files(@TempDir Path folder) throws InterruptedException {
+        var calls = new AtomicInteger();
+        this.soak(this.requests / 10, client -> {
+            var destination = folder.resolve("download-" + calls.incrementAndGet() + ".bin");
+            client.receiveFile(this.server.uri("/large"), destination);
+            Assertions.assertEquals(String.valueOf(ConformanceServer.LARGE),
+                    client.sendFileResponse(this.server.uri("/upload"), destination, "application/octet-stream").getBody());
+            try {
+                Files.delete(destination);
+            } catch (IOException e) {
+                Assertions.fail(e);
+            }
+        });
+    }
+
+    /**
+     * Make the calls from concurrent virtual threads with a single client, then check the descriptors went back to the baseline,
+     * allowing one pooled connection per concurrent caller, both client and server side.
+     */
+    private void soak(int calls, Consumer<HttpClient> call) throws InterruptedException {
+        try (var client = this.builder().buildHttpClient()) {
+            Assertions.assertEquals(ConformanceServer.TEXT, client.getText(this.server.uri("/text")));
+            var baseline = FileDescriptors.open();
+            var failures = new AtomicInteger();
+            var first = new AtomicReference<Throwable>();
+            var remaining = new AtomicInteger(calls);
+            try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                for (int i = 0; i < this.concurrency; i++) {
+                    executor.execute(() -> {
+                        while (remaining.getAndDecrement() > 0) {
+                            try {
+                                call.accept(client);
+                            } catch (Throwable t) {
+                                failures.incrementAndGet();
+                                first.compareAndSet(null, t);
+                            }
+                        }
+                    });
+                }
+            }
+            Assertions.assertEquals(0, failures.get(), () -> failures.get() + " calls failed, first failure: " + first.get());
+            Assumptions.assumeTrue(baseline >= 0, "File descriptors count not available on this platform.");
+            var limit = baseline + 2L * this.concurrency + MARGIN;
+            var count = FileDescriptors.awaitAtMost(limit, SETTLE_MILLIS);
+            Assertions.assertTrue(count <= limit, () -> "Resources leaked: " + count + " file descriptors open, " + baseline + " before the calls.");
+        }
+    }
+}
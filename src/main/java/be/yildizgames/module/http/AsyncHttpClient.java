@@ -0,0 +1,304 @@
+/*
+ * This file is part of the Yildiz-Engine project, licenced under the MIT License  (MIT)
+ *  Copyright (c) 2026 Grégory Van den Borre
+ *  More infos available: https://engine.yildiz-games.be
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ *  documentation files (the "Software"), to deal in the Software without restriction, including without limitation
+ *  the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ *  permit persons to whom the Software is furnished to do so, subject to the following conditions: The above copyright
+ *  notice and this permission notice shall be included in all copies or substantial portions of the  Software.
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ *  WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS
+ *  OR COPYRIGHT  HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ *  OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package be.yildizgames.module.http;
+
+import org.apiguardian.api.API;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.function.Function;
+
+/**
+ * Non blocking counterpart of the HttpClient, every call returns immediately with a future completed once the response is available.
+ * The returned futures never complete exceptionally, a technical failure is provided as an HttpResponse built with the error,
+ * so the result can always be consumed with HttpResponse.handle:
+ * <pre>
+ * client.getText(uri).thenAccept(r -&gt; r.handle(behavior));
+ * </pre>
+ * As the blocking client, it holds a connection pool meant to be reused and closed when no longer used.
+ *
+ * @author Grégory Van den Borre
+ */
+public interface AsyncHttpClient extends AutoCloseable {
+
+    /**
+     * Provide the non blocking client shared by the whole application, built on the first call with the default settings of the builder registered as service.
+     * Its connections are reused by every caller, closing it has no effect.
+     *
+     * @return The shared client, never null.
+     * @throws java.util.NoSuchElementException If no builder is registered, the client is built again on the next call.
+     */
+    @API(status = API.Status.EXPERIMENTAL)
+    static AsyncHttpClient shared() {
+        return SharedClients.asyncHttpClient();
+    }
+
+    /**
+     * Wrap a blocking client, each call is run on its own virtual thread.
+     * This is the fallback for implementations not providing a native non blocking client.
+     *
+     * @param client Blocking client to wrap, cannot be null.
+     * @return The non blocking client, never null.
+     */
+    @API(status = API.Status.EXPERIMENTAL)
+    static AsyncHttpClient fromBlocking(HttpClient client) {
+        return fromBlocking(client, task -> Thread.ofVirtual().start(task));
+    }
+
+    /**
+     * Wrap a blocking client, each call is run on the given executor.
+     * This is the fallback for implementations not providing a native non blocking client.
+     *
+     * @param client   Blocking client to wrap, cannot be null.
+     * @param executor Executor running the blocking calls, cannot be null.
+     * @return The non blocking client, never null.
+     */
+    @API(status = API.Status.EXPERIMENTAL)
+    static AsyncHttpClient fromBlocking(HttpClient client, Executor executor) {
+        return new BlockingAsyncHttpClient(client, executor);
+    }
+
+    /**
+     * Request the text content.
+     *
+     * @param to URI to reach, cannot be null.
+     * @return A future completed with the response, never null.
+     */
+    @API(status = API.Status.EXPERIMENTAL)
+    CompletableFuture<HttpResponse<String>> getText(URI to);
+
+    /**
+     * Request the text content.
+     *
+     * @param to URI to reach, must be a valid URI, cannot be null.
+     * @return A future completed with the response, never null.
+     */
+    @API(status = API.Status.EXPERIMENTAL)
+    CompletableFuture<HttpResponse<String>> getText(String to);
+
+    /**
+     * Make a request expecting a json object.
+     *
+     * @param to    Address to call.
+     * @param clazz Class of the object to return.
+     * @param <T>   Type of the object to return.
+     * @return A future completed with the response containing the mapped object, never null.
+     */
+    @API(status = API.Status.EXPERIMENTAL)
+    <T> CompletableFuture<HttpResponse<T>> getObject(URI to, Class<T> clazz);
+
+    @API(status = API.Status.EXPERIMENTAL)
+    <T> CompletableFuture<HttpResponse<T>> getObject(String to, Class<T> clazz);
+
+    /**
+     * Make a request expecting a json object of a generic type, the body is mapped while being read.
+     *
+     * @param to   Address to call.
+     * @param type Type of the object to return.
+     * @param <T>  Type of the object to return.
+     * @return A future completed with the response containing the mapped object, never null.
+     */
+    @API(status = API.Status.EXPERIMENTAL)
+    default <T> CompletableFuture<HttpResponse<T>> getObject(URI to, TypeReference<T> type) {
+        return CompletableFuture.completedFuture(new HttpResponse<>(new UnsupportedOperationException("Generic types not supported by " + getClass().getName())));
+    }
+
+    @API(status = API.Status.EXPERIMENTAL)
+    <T, R> CompletableFuture<HttpResponse<R>> postObject(String uri, T objectToPost, Class<R> responseClazz);
+
+    /**
+     * Request a binary content, the future completes as soon as the headers are received, the body is read from the stream.
+     *
+     * @param to URI to reach, cannot be null.
+     * @return A future completed with the response containing the body stream, never null.
+     */
+    @API(status = API.Status.EXPERIMENTAL)
+    CompletableFuture<HttpResponse<InputStream>> getInputStream(URI to);
+
+    @API(status = API.Status.EXPERIMENTAL)
+    CompletableFuture<HttpResponse<Reader>> getReader(URI to);
+
+    /**
+     * Send a file and receive a response.
+     *
+     * @param to   Destination.
+     * @param file File to send.
+     * @param mime File mime type.
+     * @return A future completed with the text response, never null.
+     */
+    @API(status = API.Status.EXPERIMENTAL)
+    CompletableFuture<HttpResponse<String>> sendFile(URI to, Path file, String mime);
+
+    /**
+     * Download a file.
+     *
+     * @param to          URI of the file to download.
+     * @param destination Path where the file will be written.
+     * @return A future completed with a response containing the destination path, never null.
+     */
+    @API(status = API.Status.EXPERIMENTAL)
+    CompletableFuture<HttpResponse<Path>> receiveFile(URI to, Path destination);
+
+    /**
+     * Download a file in several segments fetched in parallel with range requests.
+     * An interrupted download is resumed from the data already written on disk by the next call.
+     * Implementations without support, or servers not accepting ranges, receive the file as a single stream.
+     *
+     * @param to          URI of the file to download.
+     * @param destination Path where the file will be written.
+     * @param segments    Number of segments to fetch in parallel.
+     * @return A future completed with a response containing the destination path, never null.
+     */
+    @API(status = API.Status.EXPERIMENTAL)
+    default CompletableFuture<HttpResponse<Path>> receiveFile(URI to, Path destination, int segments) {
+        return receiveFile(to, destination);
+    }
+
+    /**
+     * Receive a response body directly into a buffer, from its position, avoiding intermediate copies in heap arrays.
+     * The buffer can be direct, or a MappedByteBuffer to write a region of a file.
+     * Implementations without support read the body with getInputStream on a virtual thread.
+     *
+     * @param to     URI to reach.
+     * @param target Buffer receiving the body, its position is advanced by the size of the body, a body not fitting in it is a failure.
+     * @return A future completed with a response containing the target buffer, never null.
+     */
+    @API(status = API.Status.EXPERIMENTAL)
+    default CompletableFuture<HttpResponse<ByteBuffer>> receiveBuffer(URI to, ByteBuffer target) {
+        return getInputStream(to).thenApplyAsync(r -> {
+            if (r.getError().isPresent()) {
+                return new HttpResponse<>(r.getError().get());
+            }
+            try (var body = r.getBody()) {
+                return new HttpResponse<>(r.getHttpCode(), ByteBuffers.read(body, target), r.getHeaders());
+            } catch (IOException e) {
+                return new HttpResponse<>(e);
+            }
+        }, task -> Thread.ofVirtual().start(task));
+    }
+
+    /**
+     * Request a binary content, consumed as a reactive stream of the received buffers, without intermediate copies.
+     * The future completes as soon as the headers are received, the body must be subscribed to release the connection.
+     * Implementations without support provide an UnsupportedOperationException failure.
+     *
+     * @param to URI to reach.
+     * @return A future completed with the response containing the body publisher, never null.
+     */
+    @API(status = API.Status.EXPERIMENTAL)
+    default CompletableFuture<HttpResponse<Flow.Publisher<List<ByteBuffer>>>> getPublisher(URI to) {
+        return CompletableFuture.completedFuture(new HttpResponse<>(new UnsupportedOperationException("Publisher not supported by " + getClass().getName())));
+    }
+
+    /**
+     * Make a call for every URI, with a bounded number of calls in flight.
+     * The calls share the client connections, multiplexed on HTTP/2 when available.
+     *
+     * @param uris           URIs to call.
+     * @param maxConcurrency Maximum number of calls in flight at once.
+     * @param call           Call to make for every URI, for example this::getText.
+     * @param <T>            Type of the response bodies.
+     * @return The started batch, never null.
+     */
+    @API(status = API.Status.EXPERIMENTAL)
+    default <T> HttpBatch<T> batch(Collection<URI> uris, int maxConcurrency, Function<URI, CompletableFuture<HttpResponse<T>>> call) {
+        return HttpBatch.start(uris, maxConcurrency, call);
+    }
+
+    /**
+     * Request the text content of every URI, with a bounded number of calls in flight.
+     *
+     * @param uris           URIs to call.
+     * @param maxConcurrency Maximum number of calls in flight at once.
+     * @return The started batch, never null.
+     */
+    @API(status = API.Status.EXPERIMENTAL)
+    default HttpBatch<String> getTextBatch(Collection<URI> uris, int maxConcurrency) {
+        return batch(uris, maxConcurrency, this::getText);
+    }
+
+    /**
+     * Request a json object from every URI, with a bounded number of calls in flight.
+     *
+     * @param uris           URIs to call.
+     * @param clazz          Class of the objects to return.
+     * @param maxConcurrency Maximum number of calls in flight at once.
+     * @param <T>            Type of the objects to return.
+     * @return The started batch, never null.
+     */
+    @API(status = API.Status.EXPERIMENTAL)
+    default <T> HttpBatch<T> getObjectBatch(Collection<URI> uris, Class<T> clazz, int maxConcurrency) {
+        return batch(uris, maxConcurrency, uri -> getObject(uri, clazz));
+    }
+
+    @API(status = API.Status.EXPERIMENTAL)
+    void addTransferListener(HttpTransferListener l);
+
+    /**
+     * Add a listener only notified of the transfers of the given URI.
+     * Implementations without support add a client wide listener ignoring the other URIs.
+     *
+     * @param uri URI of the transfers to notify.
+     * @param l   Listener to add.
+     */
+    @API(status = API.Status.EXPERIMENTAL)
+    default void addTransferListener(URI uri, HttpTransferListener l) {
+        addTransferListener(new UriTransferListener(uri, l));
+    }
+
+    /**
+     * Remove a listener, client wide or added for an URI, it is not notified of the updates following this call.
+     *
+     * @param l Listener to remove.
+     * @throws UnsupportedOperationException If the implementation does not support removing listeners.
+     */
+    @API(status = API.Status.EXPERIMENTAL)
+    default void removeTransferListener(HttpTransferListener l) {
+        throw new UnsupportedOperationException("Listener removal not supported by " + getClass().getName());
+    }
+
+    /**
+     * Prepare the connections to the hosts of the given URIs in the background, so the first calls do not pay for the DNS resolution,
+     * the connection and the TLS handshake. This is best effort, failures are ignored and reported by the calls made later.
+     * Implementations without support only resolve the host names.
+     *
+     * @param uris URIs of the hosts to prepare, only their scheme, host and port are used.
+     * @return A future completed once every host is prepared or failed, never completing exceptionally.
+     */
+    @API(status = API.Status.EXPERIMENTAL)
+    default CompletableFuture<Void> warmUp(Collection<URI> uris) {
+        return WarmUp.resolve(uris);
+    }
+
+    /**
+     * Release the connections of the client, once the calls in flight are completed.
+     * No call can be made after closing the client. Implementations without resources to release do nothing.
+     */
+    @API(status = API.Status.EXPERIMENTAL)
+    @Override
+    default void close() {
+        // nothing to release.
+    }
+}
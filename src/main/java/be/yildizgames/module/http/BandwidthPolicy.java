@@ -0,0 +1,75 @@
+/*
+ * This file is part of the Yildiz-Engine project, licenced under the MIT License  (MIT)
+ *  Copyright (c) 2026 Grégory Van den Borre
+ *  More infos available: https://engine.yildiz-games.be
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ *  documentation files (the "Software"), to deal in the Software without restriction, including without limitation
+ *  the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ *  permit persons to whom the Software is furnished to do so, subject to the following conditions: The above copyright
+ *  notice and this permission notice shall be included in all copies or substantial portions of the  Software.
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ *  WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS
+ *  OR COPYRIGHT  HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ *  OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package be.yildizgames.module.http;
+
+import org.apiguardian.api.API;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * Bandwidth limits of the bulk transfers: file downloads and uploads, segmented downloads and buffer receptions.
+ * Each limit is a token bucket refilled at the given rate, a transfer exceeding it is paused until enough tokens are available,
+ * the server is then slowed down by the transport flow control.
+ * Other calls are never throttled, and get a connection before the waiting bulk transfers when the connections per host are limited,
+ * so small latency sensitive requests are not delayed behind large transfers.
+ *
+ * @param maxBytesPerSecond        Rate shared by all the transfers of a client, 0 for no limit.
+ * @param maxBytesPerSecondPerHost Rate shared by the transfers to a same host, 0 for no limit.
+ * @param burst                    Time of transfer at full rate that can be consumed at once after an idle period.
+ * @author Grégory Van den Borre
+ */
+@API(status = API.Status.EXPERIMENTAL)
+public record BandwidthPolicy(long maxBytesPerSecond, long maxBytesPerSecondPerHost, Duration burst) {
+
+    private static final BandwidthPolicy UNLIMITED = new BandwidthPolicy(0, 0, Duration.ofSeconds(1));
+
+    public BandwidthPolicy {
+        Objects.requireNonNull(burst);
+        if (maxBytesPerSecond < 0 || maxBytesPerSecondPerHost < 0) {
+            throw new IllegalArgumentException("Rates cannot be negative.");
+        }
+        if (burst.isNegative() || burst.isZero()) {
+            throw new IllegalArgumentException("Burst must be positive.");
+        }
+    }
+
+    /**
+     * @return A policy without limit, with a burst of 1 second once a limit is set.
+     */
+    public static BandwidthPolicy unlimited() {
+        return UNLIMITED;
+    }
+
+    public BandwidthPolicy withMaxBytesPerSecond(long maxBytesPerSecond) {
+        return new BandwidthPolicy(maxBytesPerSecond, this.maxBytesPerSecondPerHost, this.burst);
+    }
+
+    public BandwidthPolicy withMaxBytesPerSecondPerHost(long maxBytesPerSecondPerHost) {
+        return new BandwidthPolicy(this.maxBytesPerSecond, maxBytesPerSecondPerHost, this.burst);
+    }
+
+    public BandwidthPolicy withBurst(Duration burst) {
+        return new BandwidthPolicy(this.maxBytesPerSecond, this.maxBytesPerSecondPerHost, burst);
+    }
+
+    /**
+     * @return True if at least one limit is set.
+     */
+    public boolean isLimited() {
+        return this.maxBytesPerSecond > 0 || this.maxBytesPerSecondPerHost > 0;
+    }
+}
@@ -0,0 +1,39 @@
+/*
+ * This file is part of the Yildiz-Engine project, licenced under the MIT License  (MIT)
+ *  Copyright (c) 2026 Grégory Van den Borre
+ *  More infos available: https://engine.yildiz-games.be
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ *  documentation files (the "Software"), to deal in the Software without restriction, including without limitation
+ *  the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ *  permit persons to whom the Software is furnished to do so, subject to the following conditions: The above copyright
+ *  notice and this permission notice shall be included in all copies or substantial portions of the  Software.
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ *  WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS
+ *  OR COPYRIGHT  HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ *  OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package be.yildizgames.module.http;
+
+import org.apiguardian.api.API;
+
+import java.net.URI;
+
+/**
+ * Response to one of the calls of a batch.
+ *
+ * @param uri      Called URI.
+ * @param response Response to the call, can be an error response.
+ * @param <T>      Type of the response body.
+ * @author Grégory Van den Borre
+ */
+@API(status = API.Status.EXPERIMENTAL)
+public record BatchResponse<T>(URI uri, HttpResponse<T> response) {
+
+    /**
+     * @return true if the call completed with a 2xx http code.
+     */
+    public boolean isSuccessful() {
+        return this.response.getError().isEmpty() && HttpCode.isSuccessful(this.response.getHttpCode());
+    }
+}
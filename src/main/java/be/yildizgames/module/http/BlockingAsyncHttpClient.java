@@ -0,0 +1,143 @@
+/*
+ * This file is part of the Yildiz-Engine project, licenced under the MIT License  (MIT)
+ *  Copyright (c) 2026 Grégory Van den Borre
+ *  More infos available: https://engine.yildiz-games.be
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ *  documentation files (the "Software"), to deal in the Software without restriction, including without limitation
+ *  the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ *  permit persons to whom the Software is furnished to do so, subject to the following conditions: The above copyright
+ *  notice and this permission notice shall be included in all copies or substantial portions of the  Software.
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ *  WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS
+ *  OR COPYRIGHT  HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ *  OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package be.yildizgames.module.http;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.net.URI;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+/**
+ * Non blocking client running the calls of a blocking client on an executor.
+ * Blocking calls only expose the body, a successful call is then reported with a 200 code and no headers.
+ *
+ * @author Grégory Van den Borre
+ */
+class BlockingAsyncHttpClient implements AsyncHttpClient {
+
+    private static final int OK = 200;
+
+    private final HttpClient client;
+
+    private final Executor executor;
+
+    BlockingAsyncHttpClient(HttpClient client, Executor executor) {
+        super();
+        this.client = Objects.requireNonNull(client);
+        this.executor = Objects.requireNonNull(executor);
+    }
+
+    @Override
+    public final CompletableFuture<HttpResponse<String>> getText(URI to) {
+        return this.call(() -> this.client.getTextResponse(to));
+    }
+
+    @Override
+    public final CompletableFuture<HttpResponse<String>> getText(String to) {
+        return this.call(() -> this.client.getTextResponse(to));
+    }
+
+    @Override
+    public final <T> CompletableFuture<HttpResponse<T>> getObject(URI to, Class<T> clazz) {
+        return this.call(() -> success(this.client.getObject(to, clazz)));
+    }
+
+    @Override
+    public final <T> CompletableFuture<HttpResponse<T>> getObject(String to, Class<T> clazz) {
+        return this.call(() -> success(this.client.getObject(to, clazz)));
+    }
+
+    @Override
+    public final <T> CompletableFuture<HttpResponse<T>> getObject(URI to, TypeReference<T> type) {
+        return this.call(() -> this.client.getObjectResponse(to, type));
+    }
+
+    @Override
+    public final <T, R> CompletableFuture<HttpResponse<R>> postObject(String uri, T objectToPost, Class<R> responseClazz) {
+        return this.call(() -> this.client.postObject(uri, objectToPost, responseClazz));
+    }
+
+    @Override
+    public final CompletableFuture<HttpResponse<InputStream>> getInputStream(URI to) {
+        return this.call(() -> success(this.client.getInputStream(to)));
+    }
+
+    @Override
+    public final CompletableFuture<HttpResponse<Reader>> getReader(URI to) {
+        return this.call(() -> success(this.client.getReader(to)));
+    }
+
+    @Override
+    public final CompletableFuture<HttpResponse<String>> sendFile(URI to, Path file, String mime) {
+        return this.call(() -> this.client.sendFileResponse(to, file, mime));
+    }
+
+    @Override
+    public final CompletableFuture<HttpResponse<Path>> receiveFile(URI to, Path destination) {
+        return this.call(() -> {
+            this.client.receiveFile(to, destination);
+            return success(destination);
+        });
+    }
+
+    @Override
+    public final CompletableFuture<HttpResponse<Path>> receiveFile(URI to, Path destination, int segments) {
+        return this.call(() -> {
+            this.client.receiveFile(to, destination, segments);
+            return success(destination);
+        });
+    }
+
+    @Override
+    public final void addTransferListener(HttpTransferListener l) {
+        this.client.addTransferListener(l);
+    }
+
+    @Override
+    public final void addTransferListener(URI uri, HttpTransferListener l) {
+        this.client.addTransferListener(uri, l);
+    }
+
+    @Override
+    public final void removeTransferListener(HttpTransferListener l) {
+        this.client.removeTransferListener(l);
+    }
+
+    @Override
+    public final CompletableFuture<Void> warmUp(Collection<URI> uris) {
+        return this.client.warmUp(uris);
+    }
+
+    @Override
+    public final void close() {
+        this.client.close();
+    }
+
+    private <T> CompletableFuture<HttpResponse<T>> call(Supplier<HttpResponse<T>> call) {
+        return CompletableFuture.supplyAsync(call, this.executor)
+                .exceptionally(e -> new HttpResponse<>(e instanceof CompletionException && e.getCause() != null ? e.getCause() : e));
+    }
+
+    private static <T> HttpResponse<T> success(T body) {
+        return new HttpResponse<>(OK, body, Headers.empty());
+    }
+}
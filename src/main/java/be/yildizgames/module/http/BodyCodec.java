@@ -0,0 +1,98 @@
+/*
+ * This file is part of the Yildiz-Engine project, licenced under the MIT License  (MIT)
+ *  Copyright (c) 2026 Grégory Van den Borre
+ *  More infos available: https://engine.yildiz-games.be
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ *  documentation files (the "Software"), to deal in the Software without restriction, including without limitation
+ *  the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ *  permit persons to whom the Software is furnished to do so, subject to the following conditions: The above copyright
+ *  notice and this permission notice shall be included in all copies or substantial portions of the  Software.
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ *  WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS
+ *  OR COPYRIGHT  HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ *  OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package be.yildizgames.module.http;
+
+import org.apiguardian.api.API;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Type;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Map objects to and from the request and response bodies, used by the getObject and postObject calls.
+ * Objects are decoded while reading the response stream and encoded while writing the request stream,
+ * without an intermediate copy of the whole body.
+ * Implementations are registered as service, or given directly to a client builder.
+ *
+ * @author Grégory Van den Borre
+ */
+@API(status = API.Status.EXPERIMENTAL)
+public interface BodyCodec {
+
+    /**
+     * Retrieve the first codec registered as service, looked up on the first call only and then shared.
+     * @return The codec, empty if none is registered.
+     */
+    static Optional<BodyCodec> provide() {
+        return Providers.codec();
+    }
+
+    /**
+     * @return The media type of the produced bodies, sent as content type, for example application/json.
+     */
+    String mediaType();
+
+    /**
+     * Build an object from a response body.
+     *
+     * @param body Stream of the body, closed by the caller.
+     * @param type Type of the object to build, a class or a parameterized type.
+     * @param <T>  Type of the object to build.
+     * @return The built object.
+     * @throws IOException If the body cannot be read or mapped.
+     */
+    <T> T decode(InputStream body, Type type) throws IOException;
+
+    /**
+     * Build the elements of a response body one at a time, while reading it.
+     * The body is either a top level json array, or new line delimited json values.
+     * By default, the body is split independently of the codec and each element is built with decode,
+     * codecs with a streaming parser can override it.
+     *
+     * @param body Stream of the body, closed when the returned stream is closed.
+     * @param type Type of the elements to build.
+     * @param <T>  Type of the elements to build.
+     * @return A lazy stream of the elements, the body is only read as the elements are consumed, never null.
+     * A failure while reading or mapping an element is thrown as UncheckedIOException.
+     */
+    default <T> Stream<T> decodeElements(InputStream body, Type type) {
+        var elements = new JsonElements<T>(body, e -> this.decode(e, type));
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(elements, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(() -> {
+                    try {
+                        body.close();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+    }
+
+    /**
+     * Write an object as request body.
+     *
+     * @param value Object to write.
+     * @param body  Stream of the body, closed by the caller.
+     * @throws IOException If the object cannot be mapped or written.
+     */
+    void encode(Object value, OutputStream body) throws IOException;
+}
@@ -0,0 +1,185 @@
+/*
+ * This file is part of the Yildiz-Engine project, licenced under the MIT License  (MIT)
+ *  Copyright (c) 2026 Grégory Van den Borre
+ *  More infos available: https://engine.yildiz-games.be
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ *  documentation files (the "Software"), to deal in the Software without restriction, including without limitation
+ *  the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ *  permit persons to whom the Software is furnished to do so, subject to the following conditions: The above copyright
+ *  notice and this permission notice shall be included in all copies or substantial portions of the  Software.
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ *  WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS
+ *  OR COPYRIGHT  HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ *  OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package be.yildizgames.module.http;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Type;
+import java.net.URI;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Client serving the text, object, stream and reader calls from a response whose whole body is received at once,
+ * for decorators sharing or keeping these responses.
+ * The bodies are mapped from the received bytes, text with the charset of the response content type,
+ * objects with the given codec, or with the BodyCodec service when none is given.
+ *
+ * @author Grégory Van den Borre
+ */
+abstract class BufferedHttpClient extends ForwardingHttpClient {
+
+    static final Headers NO_HEADERS = Headers.empty();
+
+    private final Optional<BodyCodec> codec;
+
+    /**
+     * @param delegate Client making the calls.
+     * @param codec    Codec mapping the objects, null to use the BodyCodec service.
+     */
+    BufferedHttpClient(HttpClient delegate, BodyCodec codec) {
+        super(delegate);
+        this.codec = codec == null ? BodyCodec.provide() : Optional.of(codec);
+    }
+
+    /**
+     * Provide the response to a GET request.
+     *
+     * @param uri            URI to reach.
+     * @param requestHeaders Headers to add to the request.
+     * @return The response with its whole body, never null.
+     */
+    abstract HttpResponse<byte[]> get(URI uri, Headers requestHeaders);
+
+    @Override
+    public final String getText(URI to) {
+        var response = this.get(to, NO_HEADERS);
+        return text(checked(to, response).getBody(), response.getHeaders());
+    }
+
+    @Override
+    public final String getText(String to) {
+        return this.getText(URI.create(to));
+    }
+
+    @Override
+    public final HttpResponse<String> getTextResponse(URI uri) {
+        return map(this.get(uri, NO_HEADERS), r -> text(r.getBody(), r.getHeaders()));
+    }
+
+    @Override
+    public final HttpResponse<String> getTextResponse(String uri) {
+        return this.getTextResponse(URI.create(uri));
+    }
+
+    @Override
+    public final <T> T getObject(URI to, Class<T> clazz) {
+        return this.decode(checked(to, this.get(to, NO_HEADERS)), clazz);
+    }
+
+    @Override
+    public final <T> T getObject(String to, Class<T> clazz) {
+        return this.getObject(URI.create(to), clazz);
+    }
+
+    @Override
+    public final <T> HttpResponse<T> getObjectResponse(URI to, TypeReference<T> type) {
+        return map(this.get(to, NO_HEADERS), r -> HttpCode.isSuccessful(r.getHttpCode()) ? this.decode(r, type.getType()) : null);
+    }
+
+    @Override
+    public final HttpResponse<byte[]> getBytesResponse(URI to, Headers requestHeaders) {
+        return this.get(to, requestHeaders);
+    }
+
+    @Override
+    public final InputStream getInputStream(URI to) {
+        return new ByteArrayInputStream(checked(to, this.get(to, NO_HEADERS)).getBody());
+    }
+
+    @Override
+    public final InputStream getInputStream(String to) {
+        return this.getInputStream(URI.create(to));
+    }
+
+    @Override
+    public final Reader getReader(URI to) {
+        var response = checked(to, this.get(to, NO_HEADERS));
+        return new InputStreamReader(new ByteArrayInputStream(response.getBody()), charset(response.getHeaders()));
+    }
+
+    @Override
+    public final Reader getReader(String to) {
+        return this.getReader(URI.create(to));
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T decode(HttpResponse<byte[]> response, Type type) {
+        if (type == byte[].class) {
+            return (T) response.getBody();
+        }
+        if (type == String.class) {
+            return (T) text(response.getBody(), response.getHeaders());
+        }
+        try {
+            return this.codec
+                    .orElseThrow(() -> new IllegalStateException("No BodyCodec available."))
+                    .decode(new ByteArrayInputStream(response.getBody()), type);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static <T> HttpResponse<T> map(HttpResponse<byte[]> response, Function<HttpResponse<byte[]>, T> body) {
+        if (response.getError().isPresent()) {
+            return new HttpResponse<>(response.getError().get());
+        }
+        try {
+            return new HttpResponse<>(response.getHttpCode(), body.apply(response), response.getHeaders());
+        } catch (RuntimeException e) {
+            return new HttpResponse<>(e);
+        }
+    }
+
+    /**
+     * Ensure a response is usable.
+     *
+     * @throws IllegalStateException If the call failed or if the response has an error code.
+     */
+    static <T> HttpResponse<T> checked(URI uri, HttpResponse<T> response) {
+        if (response.getError().isPresent()) {
+            throw new IllegalStateException("Error calling " + uri, response.getError().get());
+        }
+        if (HttpCode.isError(response.getHttpCode())) {
+            throw new IllegalStateException("Http error " + response.getHttpCode() + " calling " + uri);
+        }
+        return response;
+    }
+
+    private static String text(byte[] body, Headers headers) {
+        return body == null ? null : new String(body, charset(headers));
+    }
+
+    private static Charset charset(Headers headers) {
+        var contentType = headers.firstValue("Content-Type").orElse("").toLowerCase(Locale.ROOT);
+        var index = contentType.indexOf("charset=");
+        if (index < 0) {
+            return StandardCharsets.UTF_8;
+        }
+        try {
+            return Charset.forName(contentType.substring(index + "charset=".length()).split(";")[0].replace("\"", "").trim());
+        } catch (IllegalArgumentException e) {
+            return StandardCharsets.UTF_8;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * This file is part of the Yildiz-Engine project, licenced under the MIT License  (MIT)
+ *  Copyright (c) 2026 Grégory Van den Borre
+ *  More infos available: https://engine.yildiz-games.be
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ *  documentation files (the "Software"), to deal in the Software without restriction, including without limitation
+ *  the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ *  permit persons to whom the Software is furnished to do so, subject to the following conditions: The above copyright
+ *  notice and this permission notice shall be included in all copies or substantial portions of the  Software.
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ *  WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS
+ *  OR COPYRIGHT  HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ *  OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package be.yildizgames.module.http;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+
+/**
+ * Fill a buffer from a body stream, for the implementations not receiving directly into buffers.
+ *
+ * @author Grégory Van den Borre
+ */
+final class ByteBuffers {
+
+    private ByteBuffers() {
+        super();
+    }
+
+    /**
+     * Read a whole body into a buffer, from its position.
+     *
+     * @param body   Body to read, not closed.
+     * @param target Buffer to fill, its position is advanced by the size of the body.
+     * @return The target buffer.
+     * @throws IOException If the body cannot be read or does not fit in the buffer.
+     */
+    static ByteBuffer read(InputStream body, ByteBuffer target) throws IOException {
+        var channel = Channels.newChannel(body);
+        while (target.hasRemaining()) {
+            if (channel.read(target) < 0) {
+                return target;
+            }
+        }
+        if (body.read() >= 0) {
+            throw new IOException("Response body larger than the target buffer.");
+        }
+        return target;
+    }
+}
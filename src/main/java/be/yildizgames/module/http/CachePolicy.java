@@ -0,0 +1,154 @@
+/*
+ * This file is part of the Yildiz-Engine project, licenced under the MIT License  (MIT)
+ *  Copyright (c) 2026 Grégory Van den Borre
+ *  More infos available: https://engine.yildiz-games.be
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ *  documentation files (the "Software"), to deal in the Software without restriction, including without limitation
+ *  the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ *  permit persons to whom the Software is furnished to do so, subject to the following conditions: The above copyright
+ *  notice and this permission notice shall be included in all copies or substantial portions of the  Software.
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ *  WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS
+ *  OR COPYRIGHT  HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ *  OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package be.yildizgames.module.http;
+
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Compute the freshness of a response from its Cache-Control and Expires headers, and the conditional headers to revalidate it.
+ *
+ * @author Grégory Van den Borre
+ */
+final class CachePolicy {
+
+    /**
+     * Expiration returned for responses that must not be stored.
+     */
+    static final long NO_STORE = -1;
+
+    private static final String MAX_AGE = "max-age=";
+
+    /**
+     * Headers of a 304 response never replacing the stored ones, they describe the empty 304 message, not the stored body.
+     */
+    private static final Set<String> NOT_REFRESHED = Set.of("content-length", "connection", "keep-alive", "transfer-encoding");
+
+    private CachePolicy() {
+        super();
+    }
+
+    /**
+     * Compute the time until a response is fresh.
+     *
+     * @param headers Response headers.
+     * @param now     Current time, in milliseconds since epoch.
+     * @return The expiration time in milliseconds since epoch, now if the response must be revalidated before use, or NO_STORE.
+     */
+    static long expiresAt(Headers headers, long now) {
+        long maxAge = -1;
+        for (var value : headers.values("Cache-Control")) {
+            for (var directive : value.split(",")) {
+                var d = directive.trim().toLowerCase(Locale.ROOT);
+                if (d.equals("no-store")) {
+                    return NO_STORE;
+                } else if (d.equals("no-cache")) {
+                    return now;
+                } else if (d.startsWith(MAX_AGE)) {
+                    try {
+                        maxAge = Long.parseLong(d.substring(MAX_AGE.length()).replace("\"", ""));
+                    } catch (NumberFormatException e) {
+                        return now;
+                    }
+                }
+            }
+        }
+        if (maxAge >= 0) {
+            return now + maxAge * 1000;
+        }
+        return headers.firstValue("Expires").map(v -> {
+            try {
+                return ZonedDateTime.parse(v, DateTimeFormatter.RFC_1123_DATE_TIME).toInstant().toEpochMilli();
+            } catch (DateTimeParseException e) {
+                return now;
+            }
+        }).orElse(now);
+    }
+
+    /**
+     * Check if a response can be stored.
+     *
+     * @param headers   Response headers.
+     * @param expiresAt Expiration computed from the headers.
+     * @param now       Current time, in milliseconds since epoch.
+     * @return true if the response is still fresh, or can be revalidated.
+     */
+    static boolean isStorable(Headers headers, long expiresAt, long now) {
+        return expiresAt != NO_STORE && !variesOnAnything(headers) && (expiresAt > now || hasValidator(headers));
+    }
+
+    /**
+     * A Vary: * response depends on more than the request headers, it cannot be reused.
+     */
+    private static boolean variesOnAnything(Headers headers) {
+        for (var value : headers.values("Vary")) {
+            for (var name : value.split(",")) {
+                if (name.trim().equals("*")) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Update the headers of a stored response with those of the 304 received when revalidating it.
+     *
+     * @param stored      Headers of the stored response.
+     * @param notModified Headers of the 304 response.
+     * @return The stored headers, where those present in the 304 response are replaced.
+     */
+    static Headers refreshed(Headers stored, Headers notModified) {
+        var replaced = new HashSet<String>();
+        var result = new ArrayList<Header>();
+        for (var header : notModified.headers()) {
+            var name = header.key().toLowerCase(Locale.ROOT);
+            if (!NOT_REFRESHED.contains(name) && header.value() != null && !header.value().isEmpty()) {
+                replaced.add(name);
+                result.add(header);
+            }
+        }
+        for (var header : stored.headers()) {
+            if (!replaced.contains(header.key().toLowerCase(Locale.ROOT))) {
+                result.add(header);
+            }
+        }
+        return new Headers(result);
+    }
+
+    static boolean hasValidator(Headers headers) {
+        return headers.firstValue("ETag").isPresent() || headers.firstValue("Last-Modified").isPresent();
+    }
+
+    /**
+     * Build the headers to revalidate a stored response.
+     *
+     * @param headers Headers of the stored response.
+     * @return The If-None-Match and If-Modified-Since headers matching the stored response validators.
+     */
+    static Headers conditional(Headers headers) {
+        var result = new ArrayList<Header>();
+        headers.firstValue("ETag").ifPresent(v -> result.add(new Header("If-None-Match", List.of(v))));
+        headers.firstValue("Last-Modified").ifPresent(v -> result.add(new Header("If-Modified-Since", List.of(v))));
+        return new Headers(result);
+    }
+}
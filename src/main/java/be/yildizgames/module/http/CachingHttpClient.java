@@ -0,0 +1,340 @@
+/*
+ * This file is part of the Yildiz-Engine project, licenced under the MIT License  (MIT)
+ *  Copyright (c) 2026 Grégory Van den Borre
+ *  More infos available: https://engine.yildiz-games.be
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ *  documentation files (the "Software"), to deal in the Software without restriction, including without limitation
+ *  the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ *  permit persons to whom the Software is furnished to do so, subject to the following conditions: The above copyright
+ *  notice and this permission notice shall be included in all copies or substantial portions of the  Software.
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ *  WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS
+ *  OR COPYRIGHT  HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ *  OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package be.yildizgames.module.http;
+
+import org.apiguardian.api.API;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Client keeping the GET responses in a cache, honouring the Cache-Control, Expires, ETag and Last-Modified headers.
+ * Fresh responses are served from the cache, stale ones are revalidated with a conditional request and served from the cache when a 304 is received.
+ * The text, object, stream and reader calls share an in memory cache, bounded by the total size of the stored bodies,
+ * where the least recently used responses are evicted first.
+ * Files received with receiveFile can also be kept in a directory on disk.
+ * Calls with a body or with request headers are not cached.
+ * Since cached calls never add request headers, those named by a Vary response header are the ones the delegate sends on every call,
+ * and a stored response always matches them; responses with Vary: * are never stored.
+ * The responses are read with getBytesResponse and stored according to their headers: the delegate must implement it with the response headers,
+ * as the clients of the java module do, the default implementation provides no header and nothing is ever cached.
+ *
+ * @author Grégory Van den Borre
+ */
+@API(status = API.Status.EXPERIMENTAL)
+public class CachingHttpClient extends BufferedHttpClient {
+
+    private static final int OK = 200;
+
+    private static final int NOT_MODIFIED = 304;
+
+    private static final String EXPIRES_AT = "expiresAt";
+
+    private static final String ETAG = "ETag";
+
+    private static final String LAST_MODIFIED = "Last-Modified";
+
+    private final MemoryCache memory;
+
+    private final Path directory;
+
+    private final Clock clock;
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Cache the responses in memory only.
+     *
+     * @param delegate Client making the calls.
+     * @param maxSize  Maximum size in bytes of the bodies kept in memory.
+     */
+    public CachingHttpClient(HttpClient delegate, long maxSize) {
+        this(delegate, null, maxSize, null, Clock.systemUTC());
+    }
+
+    /**
+     * Cache the responses in memory only, objects are mapped with the given codec.
+     *
+     * @param delegate Client making the calls.
+     * @param codec    Codec mapping the objects, as the delegate configured with the same codec would.
+     * @param maxSize  Maximum size in bytes of the bodies kept in memory.
+     */
+    public CachingHttpClient(HttpClient delegate, BodyCodec codec, long maxSize) {
+        this(delegate, Objects.requireNonNull(codec), maxSize, null, Clock.systemUTC());
+    }
+
+    /**
+     * Cache the responses in memory, and the received files on disk.
+     *
+     * @param delegate  Client making the calls.
+     * @param maxSize   Maximum size in bytes of the bodies kept in memory.
+     * @param directory Directory where the received files are kept.
+     */
+    public CachingHttpClient(HttpClient delegate, long maxSize, Path directory) {
+        this(delegate, null, maxSize, Objects.requireNonNull(directory), Clock.systemUTC());
+    }
+
+    /**
+     * Cache the responses in memory, and the received files on disk, objects are mapped with the given codec.
+     *
+     * @param delegate  Client making the calls.
+     * @param codec     Codec mapping the objects, as the delegate configured with the same codec would.
+     * @param maxSize   Maximum size in bytes of the bodies kept in memory.
+     * @param directory Directory where the received files are kept.
+     */
+    public CachingHttpClient(HttpClient delegate, BodyCodec codec, long maxSize, Path directory) {
+        this(delegate, Objects.requireNonNull(codec), maxSize, Objects.requireNonNull(directory), Clock.systemUTC());
+    }
+
+    CachingHttpClient(HttpClient delegate, BodyCodec codec, long maxSize, Path directory, Clock clock) {
+        super(delegate, codec);
+        this.memory = new MemoryCache(maxSize);
+        this.directory = directory;
+        this.clock = clock;
+    }
+
+    /**
+     * @return The number of calls served from the cache, including the revalidated ones.
+     */
+    public final long getHitCount() {
+        return this.hits.sum();
+    }
+
+    /**
+     * @return The number of calls where the body had to be received.
+     */
+    public final long getMissCount() {
+        return this.misses.sum();
+    }
+
+    /**
+     * @return The total size in bytes of the bodies kept in memory.
+     */
+    public final long getSize() {
+        return this.memory.size();
+    }
+
+    @Override
+    public void receiveFile(URI to, Path destination) {
+        if (this.directory == null) {
+            super.receiveFile(to, destination);
+            return;
+        }
+        var key = key(to);
+        var file = this.directory.resolve(key);
+        var meta = this.directory.resolve(key + ".meta");
+        var now = this.clock.millis();
+        try {
+            var stored = load(meta);
+            if (stored != null && Files.isRegularFile(file)) {
+                if (Long.parseLong(stored.getProperty(EXPIRES_AT)) > now) {
+                    this.hits.increment();
+                    Files.copy(file, destination, StandardCopyOption.REPLACE_EXISTING);
+                    return;
+                }
+                var storedHeaders = headers(stored);
+                if (CachePolicy.hasValidator(storedHeaders)) {
+                    var response = checked(to, this.delegate().receiveFileResponse(to, destination, CachePolicy.conditional(storedHeaders)));
+                    if (response.getHttpCode() == NOT_MODIFIED) {
+                        this.hits.increment();
+                        var refreshed = CachePolicy.refreshed(storedHeaders, response.getHeaders());
+                        this.storeMeta(meta, refreshed, refreshedExpiration(refreshed, now));
+                        Files.copy(file, destination, StandardCopyOption.REPLACE_EXISTING);
+                        return;
+                    }
+                    this.misses.increment();
+                    this.storeFile(file, meta, destination, response.getHeaders(), now);
+                    return;
+                }
+            }
+            this.misses.increment();
+            var response = checked(to, this.delegate().receiveFileResponse(to, destination, NO_HEADERS));
+            this.storeFile(file, meta, destination, response.getHeaders(), now);
+        } catch (IOException e) {
+            throw new IllegalStateException("Error using the cache for " + to, e);
+        }
+    }
+
+    /**
+     * Retrieve a response from the cache, revalidate it if stale, or make the call and store it.
+     * Calls with request headers are not cached.
+     */
+    @Override
+    final HttpResponse<byte[]> get(URI uri, Headers requestHeaders) {
+        if (!requestHeaders.headers().isEmpty()) {
+            return this.delegate().getBytesResponse(uri, requestHeaders);
+        }
+        var now = this.clock.millis();
+        var entry = this.memory.get(uri);
+        if (entry != null && entry.expiresAt > now) {
+            this.hits.increment();
+            return entry.response();
+        }
+        if (entry != null && CachePolicy.hasValidator(entry.headers)) {
+            var response = this.delegate().getBytesResponse(uri, CachePolicy.conditional(entry.headers));
+            if (response.getHttpCode() == NOT_MODIFIED) {
+                this.hits.increment();
+                var headers = CachePolicy.refreshed(entry.headers, response.getHeaders());
+                var refreshed = new Entry(entry.body, headers, refreshedExpiration(headers, now));
+                this.memory.put(uri, refreshed);
+                return refreshed.response();
+            }
+            this.misses.increment();
+            this.store(uri, response, now);
+            return response;
+        }
+        this.misses.increment();
+        var response = this.delegate().getBytesResponse(uri, NO_HEADERS);
+        this.store(uri, response, now);
+        return response;
+    }
+
+    private void store(URI uri, HttpResponse<byte[]> response, long now) {
+        if (response.getHttpCode() != OK || response.getBody() == null) {
+            return;
+        }
+        var expiresAt = CachePolicy.expiresAt(response.getHeaders(), now);
+        if (CachePolicy.isStorable(response.getHeaders(), expiresAt, now)) {
+            this.memory.put(uri, new Entry(response.getBody(), response.getHeaders(), expiresAt));
+        } else {
+            this.memory.remove(uri);
+        }
+    }
+
+    private void storeFile(Path file, Path meta, Path received, Headers headers, long now) throws IOException {
+        var expiresAt = CachePolicy.expiresAt(headers, now);
+        if (!CachePolicy.isStorable(headers, expiresAt, now)) {
+            return;
+        }
+        Files.createDirectories(this.directory);
+        var temporary = Files.createTempFile(this.directory, "download", ".tmp");
+        Files.copy(received, temporary, StandardCopyOption.REPLACE_EXISTING);
+        Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        this.storeMeta(meta, headers, expiresAt);
+    }
+
+    private void storeMeta(Path meta, Headers headers, long expiresAt) throws IOException {
+        var properties = new Properties();
+        properties.setProperty(EXPIRES_AT, String.valueOf(expiresAt));
+        headers.firstValue(ETAG).ifPresent(v -> properties.setProperty(ETAG, v));
+        headers.firstValue(LAST_MODIFIED).ifPresent(v -> properties.setProperty(LAST_MODIFIED, v));
+        try (var out = Files.newOutputStream(meta)) {
+            properties.store(out, null);
+        }
+    }
+
+    private static Properties load(Path meta) throws IOException {
+        if (!Files.isRegularFile(meta)) {
+            return null;
+        }
+        var properties = new Properties();
+        try (var in = Files.newInputStream(meta)) {
+            properties.load(in);
+        }
+        return properties.containsKey(EXPIRES_AT) ? properties : null;
+    }
+
+    private static Headers headers(Properties properties) {
+        return new Headers(properties.stringPropertyNames()
+                .stream()
+                .filter(n -> !n.equals(EXPIRES_AT))
+                .map(n -> new Header(n, List.of(properties.getProperty(n))))
+                .toList());
+    }
+
+    /**
+     * Compute the expiration of a revalidated response, from its headers updated with the 304 ones.
+     */
+    private static long refreshedExpiration(Headers refreshed, long now) {
+        return Math.max(CachePolicy.expiresAt(refreshed, now), now);
+    }
+
+    private static String key(URI uri) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(uri.toString().getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record Entry(byte[] body, Headers headers, long expiresAt) {
+
+        private HttpResponse<byte[]> response() {
+            return new HttpResponse<>(OK, this.body, this.headers);
+        }
+    }
+
+    /**
+     * Least recently used entries, bounded by the total size of their bodies.
+     */
+    private static final class MemoryCache {
+
+        private final LinkedHashMap<URI, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+        private final long maxSize;
+
+        private long size;
+
+        private MemoryCache(long maxSize) {
+            super();
+            this.maxSize = maxSize;
+        }
+
+        private synchronized Entry get(URI uri) {
+            return this.entries.get(uri);
+        }
+
+        private synchronized void put(URI uri, Entry entry) {
+            this.remove(uri);
+            if (entry.body.length > this.maxSize) {
+                return;
+            }
+            this.entries.put(uri, entry);
+            this.size += entry.body.length;
+            var iterator = this.entries.values().iterator();
+            while (this.size > this.maxSize) {
+                this.size -= iterator.next().body.length;
+                iterator.remove();
+            }
+        }
+
+        private synchronized void remove(URI uri) {
+            var removed = this.entries.remove(uri);
+            if (removed != null) {
+                this.size -= removed.body.length;
+            }
+        }
+
+        private synchronized long size() {
+            return this.size;
+        }
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * This file is part of the Yildiz-Engine project, licenced under the MIT License  (MIT)
+ *  Copyright (c) 2026 Grégory Van den Borre
+ *  More infos available: https://engine.yildiz-games.be
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ *  documentation files (the "Software"), to deal in the Software without restriction, including without limitation
+ *  the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ *  permit persons to whom the Software is furnished to do so, subject to the following conditions: The above copyright
+ *  notice and this permission notice shall be included in all copies or substantial portions of the  Software.
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ *  WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS
+ *  OR COPYRIGHT  HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ *  OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package be.yildizgames.module.http;
+
+import org.apiguardian.api.API;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * Circuit breaker for every host: after a number of consecutive failures, I/O errors or 5xx codes, the calls to the host
+ * fail immediately with a CircuitBreakerOpenException during the open duration.
+ * Once that duration is elapsed, a single trial request is let through, closing the circuit if it succeeds.
+ *
+ * @param failureThreshold Number of consecutive failures opening the circuit, 0 to disable the circuit breaker.
+ * @param openDuration     Time the circuit stays open before a trial request.
+ * @author Grégory Van den Borre
+ */
+@API(status = API.Status.EXPERIMENTAL)
+public record CircuitBreakerPolicy(int failureThreshold, Duration openDuration) {
+
+    private static final CircuitBreakerPolicy NONE = new CircuitBreakerPolicy(0, Duration.ZERO);
+
+    public CircuitBreakerPolicy {
+        Objects.requireNonNull(openDuration);
+        if (failureThreshold < 0) {
+            throw new IllegalArgumentException("Limits cannot be negative.");
+        }
+        if (openDuration.isNegative()) {
+            throw new IllegalArgumentException("Durations cannot be negative.");
+        }
+    }
+
+    /**
+     * @return A policy never opening the circuit.
+     */
+    public static CircuitBreakerPolicy none() {
+        return NONE;
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * This file is part of the Yildiz-Engine project, licenced under the MIT License  (MIT)
+ *  Copyright (c) 2026 Grégory Van den Borre
+ *  More infos available: https://engine.yildiz-games.be
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ *  documentation files (the "Software"), to deal in the Software without restriction, including without limitation
+ *  the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ *  permit persons to whom the Software is furnished to do so, subject to the following conditions: The above copyright
+ *  notice and this permission notice shall be included in all copies or substantial portions of the  Software.
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ *  WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS
+ *  OR COPYRIGHT  HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ *  OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package be.yildizgames.module.http;
+
+import org.apiguardian.api.API;
+
+import java.net.URI;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Client collapsing identical GET calls made at the same time into a single call, whose response is shared by all the callers.
+ * Calls are identical when they target the same URI with the same request headers.
+ * The first caller makes the call, the others wait for its response, the call is forgotten as soon as it completes,
+ * so a later call always reaches the network. Wrapping a CachingHttpClient prevents the stampede when a cache entry expires.
+ * The text, object, bytes, stream and reader calls are coalesced, the body array is shared by all the callers and must not be modified.
+ * Calls with a body and file transfers are forwarded unchanged.
+ *
+ * @author Grégory Van den Borre
+ */
+@API(status = API.Status.EXPERIMENTAL)
+public class CoalescingHttpClient extends BufferedHttpClient {
+
+    private final Map<Key, CompletableFuture<HttpResponse<byte[]>>> inFlight = new ConcurrentHashMap<>();
+
+    private final LongAdder coalesced = new LongAdder();
+
+    /**
+     * Coalesce the calls, objects are mapped with the BodyCodec service.
+     *
+     * @param delegate Client making the calls.
+     */
+    public CoalescingHttpClient(HttpClient delegate) {
+        super(delegate, null);
+    }
+
+    /**
+     * Coalesce the calls, objects are mapped with the given codec, as the delegate configured with the same codec would.
+     *
+     * @param delegate Client making the calls.
+     * @param codec    Codec mapping the objects.
+     */
+    public CoalescingHttpClient(HttpClient delegate, BodyCodec codec) {
+        super(delegate, Objects.requireNonNull(codec));
+    }
+
+    /**
+     * @return The number of calls served with the response of another call.
+     */
+    public final long getCoalescedCount() {
+        return this.coalesced.sum();
+    }
+
+    @Override
+    final HttpResponse<byte[]> get(URI uri, Headers requestHeaders) {
+        var key = new Key(uri, requestHeaders);
+        var call = new CompletableFuture<HttpResponse<byte[]>>();
+        var running = this.inFlight.putIfAbsent(key, call);
+        if (running != null) {
+            this.coalesced.increment();
+            return running.join();
+        }
+        HttpResponse<byte[]> response = null;
+        try {
+            response = this.delegate().getBytesResponse(uri, requestHeaders);
+        } catch (RuntimeException e) {
+            response = new HttpResponse<>(e);
+        } finally {
+            this.inFlight.remove(key, call);
+            call.complete(response == null ? new HttpResponse<>(new IllegalStateException("Call to " + uri + " aborted.")) : response);
+        }
+        return response;
+    }
+
+    private record Key(URI uri, Headers headers) {
+    }
+}
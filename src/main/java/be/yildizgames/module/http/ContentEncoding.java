@@ -0,0 +1,66 @@
+/*
+ * This file is part of the Yildiz-Engine project, licenced under the MIT License  (MIT)
+ *  Copyright (c) 2026 Grégory Van den Borre
+ *  More infos available: https://engine.yildiz-games.be
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ *  documentation files (the "Software"), to deal in the Software without restriction, including without limitation
+ *  the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ *  permit persons to whom the Software is furnished to do so, subject to the following conditions: The above copyright
+ *  notice and this permission notice shall be included in all copies or substantial portions of the  Software.
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ *  WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS
+ *  OR COPYRIGHT  HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ *  OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package be.yildizgames.module.http;
+
+import org.apiguardian.api.API;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.List;
+
+/**
+ * Compression of the bodies, negotiated with the Accept-Encoding and Content-Encoding headers.
+ * gzip and deflate are always available, other encodings such as br or zstd are added by registering implementations as service.
+ * Bodies are compressed and decompressed as streams, without an intermediate copy of the whole body.
+ *
+ * @author Grégory Van den Borre
+ */
+@API(status = API.Status.EXPERIMENTAL)
+public interface ContentEncoding {
+
+    /**
+     * Retrieve the available encodings, the ones registered as service come first and replace a standard encoding with the same name.
+     * They are looked up on the first call only and then shared.
+     * @return The encodings, in preference order, never empty.
+     */
+    static List<ContentEncoding> provide() {
+        return Providers.encodings();
+    }
+
+    /**
+     * @return The encoding name, as used in the Content-Encoding header, for example gzip.
+     */
+    String name();
+
+    /**
+     * Decompress a body while it is read.
+     *
+     * @param encoded Compressed body.
+     * @return A stream providing the decompressed body, closing it closes the compressed body.
+     * @throws IOException If the body cannot be read.
+     */
+    InputStream decode(InputStream encoded) throws IOException;
+
+    /**
+     * Compress a body while it is written.
+     *
+     * @param target Stream receiving the compressed body.
+     * @return A stream to write the body to, closing it completes and closes the compressed body.
+     * @throws IOException If the body cannot be written.
+     */
+    OutputStream encode(OutputStream target) throws IOException;
+}
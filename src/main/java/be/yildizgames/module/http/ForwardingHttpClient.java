@@ -0,0 +1,173 @@
+/*
+ * This file is part of the Yildiz-Engine project, licenced under the MIT License  (MIT)
+ *  Copyright (c) 2026 Grégory Van den Borre
+ *  More infos available: https://engine.yildiz-games.be
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ *  documentation files (the "Software"), to deal in the Software without restriction, including without limitation
+ *  the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ *  permit persons to whom the Software is furnished to do so, subject to the following conditions: The above copyright
+ *  notice and this permission notice shall be included in all copies or substantial portions of the  Software.
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ *  WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS
+ *  OR COPYRIGHT  HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ *  OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package be.yildizgames.module.http;
+
+import org.apiguardian.api.API;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
+
+/**
+ * Client forwarding every call to another client, to be extended by decorators only overriding the calls they change.
+ *
+ * @author Grégory Van den Borre
+ */
+@API(status = API.Status.EXPERIMENTAL)
+public abstract class ForwardingHttpClient implements HttpClient {
+
+    private final HttpClient delegate;
+
+    protected ForwardingHttpClient(HttpClient delegate) {
+        super();
+        this.delegate = Objects.requireNonNull(delegate);
+    }
+
+    protected final HttpClient delegate() {
+        return this.delegate;
+    }
+
+    @Override
+    public String getText(URI to) {
+        return this.delegate.getText(to);
+    }
+
+    @Override
+    public String getText(String to) {
+        return this.delegate.getText(to);
+    }
+
+    @Override
+    public HttpResponse<String> getTextResponse(URI uri) {
+        return this.delegate.getTextResponse(uri);
+    }
+
+    @Override
+    public HttpResponse<String> getTextResponse(String uri) {
+        return this.delegate.getTextResponse(uri);
+    }
+
+    @Override
+    public <T, R> HttpResponse<R> postObject(String uri, T objectToPost, Class<R> responseClazz) {
+        return this.delegate.postObject(uri, objectToPost, responseClazz);
+    }
+
+    @Override
+    public <T> T getObject(URI to, Class<T> clazz) {
+        return this.delegate.getObject(to, clazz);
+    }
+
+    @Override
+    public <T> T getObject(String to, Class<T> clazz) {
+        return this.delegate.getObject(to, clazz);
+    }
+
+    @Override
+    public <T> HttpResponse<T> getObjectResponse(URI to, TypeReference<T> type) {
+        return this.delegate.getObjectResponse(to, type);
+    }
+
+    @Override
+    public HttpResponse<byte[]> getBytesResponse(URI to, Headers requestHeaders) {
+        return this.delegate.getBytesResponse(to, requestHeaders);
+    }
+
+    @Override
+    public <T> Stream<T> getObjectStream(URI to, Class<T> clazz) {
+        return this.delegate.getObjectStream(to, clazz);
+    }
+
+    @Override
+    public InputStream getInputStream(URI to) {
+        return this.delegate.getInputStream(to);
+    }
+
+    @Override
+    public InputStream getInputStream(String to) {
+        return this.delegate.getInputStream(to);
+    }
+
+    @Override
+    public Reader getReader(URI to) {
+        return this.delegate.getReader(to);
+    }
+
+    @Override
+    public Reader getReader(String to) {
+        return this.delegate.getReader(to);
+    }
+
+    @Override
+    public void sendFile(URI to, Path file, String mime) {
+        this.delegate.sendFile(to, file, mime);
+    }
+
+    @Override
+    public HttpResponse<String> sendFileResponse(URI to, Path file, String mime) {
+        return this.delegate.sendFileResponse(to, file, mime);
+    }
+
+    @Override
+    public void receiveFile(URI to, Path destination) {
+        this.delegate.receiveFile(to, destination);
+    }
+
+    @Override
+    public HttpResponse<Path> receiveFileResponse(URI to, Path destination, Headers requestHeaders) {
+        return this.delegate.receiveFileResponse(to, destination, requestHeaders);
+    }
+
+    @Override
+    public void receiveFile(URI to, Path destination, int segments) {
+        this.delegate.receiveFile(to, destination, segments);
+    }
+
+    @Override
+    public ByteBuffer receiveBuffer(URI to, ByteBuffer target) {
+        return this.delegate.receiveBuffer(to, target);
+    }
+
+    @Override
+    public void addTransferListener(HttpTransferListener l) {
+        this.delegate.addTransferListener(l);
+    }
+
+    @Override
+    public void addTransferListener(URI uri, HttpTransferListener l) {
+        this.delegate.addTransferListener(uri, l);
+    }
+
+    @Override
+    public void removeTransferListener(HttpTransferListener l) {
+        this.delegate.removeTransferListener(l);
+    }
+
+    @Override
+    public CompletableFuture<Void> warmUp(Collection<URI> uris) {
+        return this.delegate.warmUp(uris);
+    }
+
+    @Override
+    public void close() {
+        this.delegate.close();
+    }
+}
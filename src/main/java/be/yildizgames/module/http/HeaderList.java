@@ -0,0 +1,146 @@
+/*
+ * This file is part of the Yildiz-Engine project, licenced under the MIT License  (MIT)
+ *  Copyright (c) 2026 Grégory Van den Borre
+ *  More infos available: https://engine.yildiz-games.be
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ *  documentation files (the "Software"), to deal in the Software without restriction, including without limitation
+ *  the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ *  permit persons to whom the Software is furnished to do so, subject to the following conditions: The above copyright
+ *  notice and this permission notice shall be included in all copies or substantial portions of the  Software.
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ *  WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS
+ *  OR COPYRIGHT  HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ *  OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package be.yildizgames.module.http;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.RandomAccess;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Immutable header list backing {@link Headers}, holding the raw response headers and the lookup index, both built on first use.
+ * Names are lower cased and shared for the common headers, single valued headers are indexed without a list.
+ *
+ * @author Grégory Van den Borre
+ */
+final class HeaderList extends AbstractList<Header> implements RandomAccess {
+
+    /**
+     * Shared lower cased names for the most common headers.
+     */
+    private static final Map<String, String> COMMON_NAMES = Stream.of(
+                    "accept", "accept-encoding", "accept-ranges", "age", "authorization", "cache-control", "connection",
+                    "content-encoding", "content-length", "content-range", "content-type", "date", "etag", "expires",
+                    "host", "if-modified-since", "if-none-match", "if-range", "last-modified", "location", "range",
+                    "server", "set-cookie", "transfer-encoding", "user-agent", "vary")
+            .collect(Collectors.toUnmodifiableMap(Function.identity(), Function.identity()));
+
+    /**
+     * Raw headers, null when built from a header list.
+     */
+    private final Map<String, List<String>> raw;
+
+    private volatile List<Header> headers;
+
+    /**
+     * Lower cased name to a single String value, or to a List of values.
+     */
+    private volatile Map<String, Object> index;
+
+    HeaderList(List<Header> headers) {
+        super();
+        this.raw = null;
+        this.headers = List.copyOf(headers);
+    }
+
+    HeaderList(Map<String, List<String>> raw) {
+        super();
+        this.raw = raw;
+    }
+
+    @Override
+    public Header get(int index) {
+        return this.headers().get(index);
+    }
+
+    @Override
+    public int size() {
+        return this.headers().size();
+    }
+
+    @SuppressWarnings("unchecked")
+    List<String> values(String name) {
+        var value = this.index().get(name.toLowerCase(Locale.ROOT));
+        if (value == null) {
+            return List.of();
+        }
+        return value instanceof String s ? List.of(s) : (List<String>) value;
+    }
+
+    @SuppressWarnings("unchecked")
+    Optional<String> firstValue(String name) {
+        var value = this.index().get(name.toLowerCase(Locale.ROOT));
+        if (value instanceof String s) {
+            return Optional.of(s);
+        }
+        return value == null ? Optional.empty() : ((List<String>) value).stream().findFirst();
+    }
+
+    private List<Header> headers() {
+        var result = this.headers;
+        if (result == null) {
+            result = this.raw.entrySet()
+                    .stream()
+                    .map(e -> new Header(e.getKey(), e.getValue()))
+                    .toList();
+            this.headers = result;
+        }
+        return result;
+    }
+
+    private Map<String, Object> index() {
+        var result = this.index;
+        if (result == null) {
+            result = this.raw == null ? build(this.headers.stream().map(h -> Map.entry(h.key(), h.value()))) : build(this.raw.entrySet().stream());
+            this.index = result;
+        }
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> build(Stream<Map.Entry<String, List<String>>> entries) {
+        var result = new HashMap<String, Object>();
+        entries.forEach(e -> {
+            var values = e.getValue();
+            if (values == null || values.isEmpty()) {
+                return;
+            }
+            var name = e.getKey().toLowerCase(Locale.ROOT);
+            name = COMMON_NAMES.getOrDefault(name, name);
+            var previous = result.get(name);
+            if (previous == null) {
+                result.put(name, values.size() == 1 ? values.get(0) : List.copyOf(values));
+            } else {
+                var merged = new ArrayList<String>();
+                if (previous instanceof String s) {
+                    merged.add(s);
+                } else {
+                    merged.addAll((List<String>) previous);
+                }
+                merged.addAll(values);
+                result.put(name, List.copyOf(merged));
+            }
+        });
+        return result;
+    }
+}
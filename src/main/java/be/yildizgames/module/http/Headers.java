@@ -15,11 +15,65 @@
  */
 package be.yildizgames.module.http;
 
+import org.apiguardian.api.API;
+
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 /**
+ * Http headers, looked up by name without case sensitivity.
+ * Headers built from a raw response are only indexed on the first lookup, so a response whose headers are never read costs no parsing.
+ * Instances are immutable and can be shared between threads.
  *
  * @author Grégory Van den Borre
  */
 public record Headers(List<Header> headers) {
+
+    private static final Headers EMPTY = new Headers(List.of());
+
+    public Headers {
+        headers = headers instanceof HeaderList ? headers : new HeaderList(headers);
+    }
+
+    /**
+     * @return Headers without any entry.
+     */
+    @API(status = API.Status.EXPERIMENTAL)
+    public static Headers empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Wrap raw headers, they are only indexed on first access.
+     *
+     * @param raw Header names and their values, the map must not be modified afterward.
+     * @return The headers, never null.
+     */
+    @API(status = API.Status.EXPERIMENTAL)
+    public static Headers of(Map<String, List<String>> raw) {
+        return raw.isEmpty() ? EMPTY : new Headers(new HeaderList(raw));
+    }
+
+    /**
+     * Retrieve all the values of a header.
+     *
+     * @param name Header name, case insensitive.
+     * @return The header values, empty if the header is not present.
+     */
+    @API(status = API.Status.EXPERIMENTAL)
+    public List<String> values(String name) {
+        return ((HeaderList) this.headers).values(name);
+    }
+
+    /**
+     * Retrieve the first value of a header.
+     *
+     * @param name Header name, case insensitive.
+     * @return The first header value, empty if the header is not present.
+     */
+    @API(status = API.Status.EXPERIMENTAL)
+    public Optional<String> firstValue(String name) {
+        return ((HeaderList) this.headers).firstValue(name);
+    }
 }
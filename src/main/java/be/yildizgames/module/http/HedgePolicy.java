@@ -0,0 +1,78 @@
+/*
+ * This file is part of the Yildiz-Engine project, licenced under the MIT License  (MIT)
+ *  Copyright (c) 2026 Grégory Van den Borre
+ *  More infos available: https://engine.yildiz-games.be
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ *  documentation files (the "Software"), to deal in the Software without restriction, including without limitation
+ *  the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ *  permit persons to whom the Software is furnished to do so, subject to the following conditions: The above copyright
+ *  notice and this permission notice shall be included in all copies or substantial portions of the  Software.
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ *  WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS
+ *  OR COPYRIGHT  HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ *  OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package be.yildizgames.module.http;
+
+import org.apiguardian.api.API;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * Hedging of the idempotent requests: when no response is received after the given percentile of the observed latencies,
+ * a copy of the request is sent, the first response is used and the other is discarded.
+ * This trades a few additional requests for a lower tail latency against slow or flaky servers.
+ * The percentile is estimated from a histogram, the delay can be up to 6.25% longer than the exact percentile.
+ * Once a response is accepted, the copies still pending are cancelled.
+ * Requests writing to a file are never hedged.
+ *
+ * @param percentile Percentile of the observed latencies after which a copy is sent, from 0 to 100.
+ * @param minDelay   Minimum delay before sending a copy.
+ * @param maxHedges  Maximum number of copies sent for a request, 0 to disable hedging.
+ * @author Grégory Van den Borre
+ */
+@API(status = API.Status.EXPERIMENTAL)
+public record HedgePolicy(double percentile, Duration minDelay, int maxHedges) {
+
+    private static final HedgePolicy NONE = new HedgePolicy(100, Duration.ZERO, 0);
+
+    public HedgePolicy {
+        Objects.requireNonNull(minDelay);
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("Percentile must be between 0 and 100.");
+        }
+        if (minDelay.isNegative()) {
+            throw new IllegalArgumentException("Durations cannot be negative.");
+        }
+        if (maxHedges < 0) {
+            throw new IllegalArgumentException("Limits cannot be negative.");
+        }
+    }
+
+    /**
+     * @return A policy never hedging.
+     */
+    public static HedgePolicy none() {
+        return NONE;
+    }
+
+    /**
+     * Provide a policy sending a single copy after the given percentile.
+     *
+     * @param percentile Percentile of the observed latencies after which a copy is sent, from 0 to 100.
+     * @return The policy, never null.
+     */
+    public static HedgePolicy afterPercentile(double percentile) {
+        return new HedgePolicy(percentile, Duration.ZERO, 1);
+    }
+
+    public HedgePolicy withMinDelay(Duration minDelay) {
+        return new HedgePolicy(this.percentile, minDelay, this.maxHedges);
+    }
+
+    public HedgePolicy withMaxHedges(int maxHedges) {
+        return new HedgePolicy(this.percentile, this.minDelay, maxHedges);
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ * This file is part of the Yildiz-Engine project, licenced under the MIT License  (MIT)
+ *  Copyright (c) 2026 Grégory Van den Borre
+ *  More infos available: https://engine.yildiz-games.be
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ *  documentation files (the "Software"), to deal in the Software without restriction, including without limitation
+ *  the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ *  permit persons to whom the Software is furnished to do so, subject to the following conditions: The above copyright
+ *  notice and this permission notice shall be included in all copies or substantial portions of the  Software.
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ *  WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS
+ *  OR COPYRIGHT  HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ *  OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package be.yildizgames.module.http;
+
+import org.apiguardian.api.API;
+
+import java.net.URI;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Default metrics, aggregating all the requests of a client into lock free histograms and counters.
+ *
+ * @author Grégory Van den Borre
+ */
+@API(status = API.Status.EXPERIMENTAL)
+public final class HistogramHttpClientMetrics implements HttpClientMetrics {
+
+    private final LatencyHistogram dns = new LatencyHistogram();
+
+    private final LatencyHistogram connect = new LatencyHistogram();
+
+    private final LatencyHistogram tls = new LatencyHistogram();
+
+    private final LatencyHistogram queue = new LatencyHistogram();
+
+    private final LatencyHistogram firstByte = new LatencyHistogram();
+
+    private final LatencyHistogram total = new LatencyHistogram();
+
+    private final LongAdder successes = new LongAdder();
+
+    private final LongAdder redirections = new LongAdder();
+
+    private final LongAdder errors = new LongAdder();
+
+    private final LongAdder failures = new LongAdder();
+
+    private final LongAdder bytesIn = new LongAdder();
+
+    private final LongAdder bytesOut = new LongAdder();
+
+    private final LongAdder retries = new LongAdder();
+
+    private final LongAccumulator maxInFlight = new LongAccumulator(Math::max, 0);
+
+    private final LongAccumulator maxWaiting = new LongAccumulator(Math::max, 0);
+
+    public HistogramHttpClientMetrics() {
+        super();
+    }
+
+    @Override
+    public void completed(HttpRequestTimings timings) {
+        this.dns.record(timings.dns());
+        this.connect.record(timings.connect());
+        this.tls.record(timings.tls());
+        this.queue.record(timings.queue());
+        this.firstByte.record(timings.firstByte());
+        this.total.record(timings.total());
+        if (timings.isSuccessful()) {
+            this.successes.increment();
+        } else if (timings.isRedirected()) {
+            this.redirections.increment();
+        } else if (timings.isError()) {
+            this.errors.increment();
+        } else {
+            this.failures.increment();
+        }
+        this.bytesIn.add(Math.max(0, timings.bytesIn()));
+        this.bytesOut.add(Math.max(0, timings.bytesOut()));
+    }
+
+    @Override
+    public void poolUsage(String host, int inFlight, int waiting, int limit) {
+        this.maxInFlight.accumulate(inFlight);
+        this.maxWaiting.accumulate(waiting);
+    }
+
+    @Override
+    public void retried(URI uri, int attempt, String cause) {
+        this.retries.increment();
+    }
+
+    public LatencyHistogram getDns() {
+        return this.dns;
+    }
+
+    public LatencyHistogram getConnect() {
+        return this.connect;
+    }
+
+    public LatencyHistogram getTls() {
+        return this.tls;
+    }
+
+    public LatencyHistogram getQueue() {
+        return this.queue;
+    }
+
+    public LatencyHistogram getFirstByte() {
+        return this.firstByte;
+    }
+
+    public LatencyHistogram getTotal() {
+        return this.total;
+    }
+
+    public long getSuccessCount() {
+        return this.successes.sum();
+    }
+
+    public long getRedirectionCount() {
+        return this.redirections.sum();
+    }
+
+    public long getErrorCount() {
+        return this.errors.sum();
+    }
+
+    /**
+     * @return Number of calls ending without a response.
+     */
+    public long getFailureCount() {
+        return this.failures.sum();
+    }
+
+    public long getBytesIn() {
+        return this.bytesIn.sum();
+    }
+
+    public long getBytesOut() {
+        return this.bytesOut.sum();
+    }
+
+    public long getRetryCount() {
+        return this.retries.sum();
+    }
+
+    /**
+     * @return Highest number of requests in flight to a single host.
+     */
+    public long getMaxInFlight() {
+        return this.maxInFlight.get();
+    }
+
+    /**
+     * @return Highest number of requests waiting for a single host.
+     */
+    public long getMaxWaiting() {
+        return this.maxWaiting.get();
+    }
+}
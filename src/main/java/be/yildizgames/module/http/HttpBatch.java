@@ -0,0 +1,153 @@
+/*
+ * This file is part of the Yildiz-Engine project, licenced under the MIT License  (MIT)
+ *  Copyright (c) 2026 Grégory Van den Borre
+ *  More infos available: https://engine.yildiz-games.be
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ *  documentation files (the "Software"), to deal in the Software without restriction, including without limitation
+ *  the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ *  permit persons to whom the Software is furnished to do so, subject to the following conditions: The above copyright
+ *  notice and this permission notice shall be included in all copies or substantial portions of the  Software.
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ *  WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS
+ *  OR COPYRIGHT  HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ *  OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package be.yildizgames.module.http;
+
+import org.apiguardian.api.API;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Calls made for a collection of URIs, with a bounded number of calls in flight.
+ * A new call is started as soon as another one completes, the responses are available in completion order with stream,
+ * or all at once with result.
+ *
+ * @param <T> Type of the response bodies.
+ * @author Grégory Van den Borre
+ */
+@API(status = API.Status.EXPERIMENTAL)
+public final class HttpBatch<T> {
+
+    private final List<URI> uris;
+
+    private final Function<URI, CompletableFuture<HttpResponse<T>>> call;
+
+    private final AtomicInteger next = new AtomicInteger();
+
+    private final BlockingQueue<BatchResponse<T>> completed = new LinkedBlockingQueue<>();
+
+    private final List<BatchResponse<T>> responses = new ArrayList<>();
+
+    private final CompletableFuture<BatchResult<T>> result = new CompletableFuture<>();
+
+    private HttpBatch(Collection<URI> uris, Function<URI, CompletableFuture<HttpResponse<T>>> call) {
+        super();
+        this.uris = List.copyOf(uris);
+        this.call = call;
+    }
+
+    /**
+     * Start the calls.
+     *
+     * @param uris           URIs to call.
+     * @param maxConcurrency Maximum number of calls in flight at once.
+     * @param call           Call to make for every URI.
+     * @param <T>            Type of the response bodies.
+     * @return The started batch, never null.
+     */
+    public static <T> HttpBatch<T> start(Collection<URI> uris, int maxConcurrency, Function<URI, CompletableFuture<HttpResponse<T>>> call) {
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("Concurrency must be at least 1.");
+        }
+        var batch = new HttpBatch<>(uris, call);
+        if (batch.uris.isEmpty()) {
+            batch.result.complete(new BatchResult<>(List.of()));
+        }
+        for (int i = 0; i < Math.min(maxConcurrency, batch.uris.size()); i++) {
+            batch.callNext();
+        }
+        return batch;
+    }
+
+    /**
+     * Provide the responses as they complete, the stream blocks until the next response is available, and can only be consumed once.
+     *
+     * @return The responses in completion order.
+     */
+    public Stream<BatchResponse<T>> stream() {
+        return Stream.generate(this::take).limit(this.uris.size());
+    }
+
+    /**
+     * @return A future completed with all the responses, once all the calls are completed.
+     */
+    public CompletableFuture<BatchResult<T>> result() {
+        return this.result;
+    }
+
+    /**
+     * Wait for all the calls to complete.
+     *
+     * @return All the responses.
+     */
+    public BatchResult<T> join() {
+        return this.result.join();
+    }
+
+    /**
+     * Make the next calls of a lane, synchronously completed calls are handled in a loop to keep the stack flat.
+     */
+    private void callNext() {
+        int index;
+        while ((index = this.next.getAndIncrement()) < this.uris.size()) {
+            var uri = this.uris.get(index);
+            CompletableFuture<HttpResponse<T>> future;
+            try {
+                future = this.call.apply(uri);
+            } catch (RuntimeException e) {
+                future = CompletableFuture.completedFuture(new HttpResponse<>(e));
+            }
+            if (!future.isDone()) {
+                future.whenComplete((r, e) -> {
+                    this.complete(uri, r, e);
+                    this.callNext();
+                });
+                return;
+            }
+            future.whenComplete((r, e) -> this.complete(uri, r, e));
+        }
+    }
+
+    private void complete(URI uri, HttpResponse<T> response, Throwable error) {
+        var item = new BatchResponse<>(uri, error == null ? response : new HttpResponse<>(error));
+        this.completed.add(item);
+        boolean done;
+        synchronized (this.responses) {
+            this.responses.add(item);
+            done = this.responses.size() == this.uris.size();
+        }
+        if (done) {
+            this.result.complete(new BatchResult<>(this.responses));
+        }
+    }
+
+    private BatchResponse<T> take() {
+        try {
+            return this.completed.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a batch response.", e);
+        }
+    }
+}
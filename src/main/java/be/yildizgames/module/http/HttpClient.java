@@ -17,18 +17,37 @@ package be.yildizgames.module.http;
 
 import org.apiguardian.api.API;
 
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.Reader;
 import java.net.URI;
+import java.nio.ByteBuffer;
 import java.nio.file.Path;
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
 
 /**
  * Http call to retrieve text or binary content.
  * It can either provide simple call or call with a behavior to be notified when the call is done.
+ * A client holds a connection pool, it is meant to be reused for the lifetime of the application, or of the component using it,
+ * and closed when no longer used. The shared instance can be used instead of building one.
  *
  * @author Grégory Van den Borre
  */
-public interface HttpClient {
+public interface HttpClient extends AutoCloseable {
+
+    /**
+     * Provide the client shared by the whole application, built on the first call with the default settings of the builder registered as service.
+     * Its connections are reused by every caller, closing it has no effect.
+     *
+     * @return The shared client, never null.
+     * @throws java.util.NoSuchElementException If no builder is registered, the client is built again on the next call.
+     */
+    @API(status = API.Status.EXPERIMENTAL)
+    static HttpClient shared() {
+        return SharedClients.httpClient();
+    }
 
     /**
      * Request the text content.
@@ -72,6 +91,65 @@ public interface HttpClient {
     @API(status = API.Status.STABLE)
     <T> T getObject(String to, Class<T> clazz);
 
+    /**
+     * Make a request expecting a json object of a generic type, the body is mapped while being read.
+     * Implementations without support read the body with getInputStream and map it with the BodyCodec service,
+     * a successful call is then reported with a 200 code and no headers.
+     *
+     * @param to   Address to call.
+     * @param type Type of the object to return.
+     * @param <T>  Type of the object to return.
+     * @return The response with the mapped object, never null.
+     */
+    @API(status = API.Status.EXPERIMENTAL)
+    default <T> HttpResponse<T> getObjectResponse(URI to, TypeReference<T> type) {
+        try (var body = getInputStream(to)) {
+            var codec = BodyCodec.provide().orElseThrow(() -> new IllegalStateException("No BodyCodec available."));
+            return new HttpResponse<>(200, codec.<T>decode(body, type.getType()), Headers.empty());
+        } catch (IOException | RuntimeException e) {
+            return new HttpResponse<>(e);
+        }
+    }
+
+    /**
+     * Make a request expecting a json array, or new line delimited json values, mapped one element at a time while being read.
+     * Only the current element is held in memory, and the body is only read as fast as the elements are consumed.
+     * The stream must be closed to release the connection, for example with a try-with-resources.
+     * Implementations without support read the body with getInputStream and map it with the BodyCodec service.
+     *
+     * @param to    Address to call.
+     * @param clazz Class of the elements to return.
+     * @param <T>   Type of the elements to return.
+     * @return A lazy stream of the elements, never null.
+     * A failure while reading or mapping an element is thrown as UncheckedIOException.
+     * @throws IllegalStateException in case of failure, being technical or by receiving a 4xx or 5xx http code.
+     */
+    @API(status = API.Status.EXPERIMENTAL)
+    default <T> Stream<T> getObjectStream(URI to, Class<T> clazz) {
+        var codec = BodyCodec.provide().orElseThrow(() -> new IllegalStateException("No BodyCodec available."));
+        return codec.decodeElements(getInputStream(to), clazz);
+    }
+
+    /**
+     * Request a binary content, with additional request headers, for example to make a conditional request.
+     * Implementations without support ignore the request headers and read the body with getInputStream,
+     * a successful call is then reported with a 200 code and no headers.
+     * Decorators relying on the response headers, such as CachingHttpClient, require an implementation providing them,
+     * implementations are expected to override this method.
+     *
+     * @param to             URI to reach, cannot be null.
+     * @param requestHeaders Headers to add to the request.
+     * @return The response with the whole body, never null.
+     */
+    @API(status = API.Status.EXPERIMENTAL)
+    default HttpResponse<byte[]> getBytesResponse(URI to, Headers requestHeaders) {
+        try (var body = getInputStream(to)) {
+            return new HttpResponse<>(200, body.readAllBytes(), Headers.empty());
+        } catch (IOException | RuntimeException e) {
+            return new HttpResponse<>(e);
+        }
+    }
+
     @API(status = API.Status.STABLE)
     InputStream getInputStream(final URI to);
 
@@ -84,11 +162,21 @@ public interface HttpClient {
     @API(status = API.Status.STABLE)
     Reader getReader(final String to);
 
+    /**
+     * Send a file, its content is streamed and never fully loaded in memory.
+     * The progress is reported to the transfer listeners.
+     *
+     * @param to   Destination.
+     * @param file File to send.
+     * @param mime File mime type.
+     * @throws IllegalStateException in case of failure, being technical or by receiving a 4xx or 5xx http code.
+     */
     @API(status = API.Status.STABLE)
     void sendFile(URI to, Path file, String mime);
 
     /**
-     * Send a file and receive a response.
+     * Send a file and receive a response, its content is streamed and never fully loaded in memory.
+     * The progress is reported to the transfer listeners.
      *
      * @param to   Destination.
      * @param file File to send.
@@ -101,6 +189,108 @@ public interface HttpClient {
     @API(status = API.Status.STABLE)
     void receiveFile(URI to, Path destination);
 
+    /**
+     * Download a file, with additional request headers, for example to make a conditional request.
+     * The destination is only written when a 2xx code is received.
+     * Implementations without support ignore the request headers and use receiveFile,
+     * a successful call is then reported with a 200 code and no headers.
+     *
+     * @param to             URI of the file to download.
+     * @param destination    Path where the file will be written.
+     * @param requestHeaders Headers to add to the request.
+     * @return The response with the destination path, never null.
+     */
+    @API(status = API.Status.EXPERIMENTAL)
+    default HttpResponse<Path> receiveFileResponse(URI to, Path destination, Headers requestHeaders) {
+        try {
+            receiveFile(to, destination);
+            return new HttpResponse<>(200, destination, Headers.empty());
+        } catch (RuntimeException e) {
+            return new HttpResponse<>(e);
+        }
+    }
+
+    /**
+     * Download a file in several segments fetched in parallel with range requests.
+     * An interrupted download is resumed from the data already written on disk by the next call.
+     * The progress is reported to the transfer listeners, with the total of all segments.
+     * Implementations without support, or servers not accepting ranges, receive the file as a single stream.
+     *
+     * @param to          URI of the file to download.
+     * @param destination Path where the file will be written.
+     * @param segments    Number of segments to fetch in parallel.
+     * @throws IllegalStateException in case of failure, being technical or by receiving a 4xx or 5xx http code.
+     */
+    @API(status = API.Status.EXPERIMENTAL)
+    default void receiveFile(URI to, Path destination, int segments) {
+        receiveFile(to, destination);
+    }
+
+    /**
+     * Receive a response body directly into a buffer, from its position, avoiding intermediate copies in heap arrays.
+     * The buffer can be direct, or a MappedByteBuffer to write a region of a file.
+     * Implementations without support read the body with getInputStream.
+     *
+     * @param to     URI to reach.
+     * @param target Buffer receiving the body, its position is advanced by the size of the body.
+     * @return The target buffer.
+     * @throws IllegalStateException in case of failure, being technical, by receiving a 4xx or 5xx http code, or if the body does not fit in the buffer.
+     */
+    @API(status = API.Status.EXPERIMENTAL)
+    default ByteBuffer receiveBuffer(URI to, ByteBuffer target) {
+        try (var body = getInputStream(to)) {
+            return ByteBuffers.read(body, target);
+        } catch (IOException e) {
+            throw new IllegalStateException("Error calling " + to, e);
+        }
+    }
+
     @API(status = API.Status.STABLE)
     void addTransferListener(HttpTransferListener l);
+
+    /**
+     * Add a listener only notified of the transfers of the given URI.
+     * Implementations without support add a client wide listener ignoring the other URIs.
+     *
+     * @param uri URI of the transfers to notify.
+     * @param l   Listener to add.
+     */
+    @API(status = API.Status.EXPERIMENTAL)
+    default void addTransferListener(URI uri, HttpTransferListener l) {
+        addTransferListener(new UriTransferListener(uri, l));
+    }
+
+    /**
+     * Remove a listener, client wide or added for an URI, it is not notified of the updates following this call.
+     *
+     * @param l Listener to remove.
+     * @throws UnsupportedOperationException If the implementation does not support removing listeners.
+     */
+    @API(status = API.Status.EXPERIMENTAL)
+    default void removeTransferListener(HttpTransferListener l) {
+        throw new UnsupportedOperationException("Listener removal not supported by " + getClass().getName());
+    }
+
+    /**
+     * Prepare the connections to the hosts of the given URIs in the background, so the first calls do not pay for the DNS resolution,
+     * the connection and the TLS handshake. This is best effort, failures are ignored and reported by the calls made later.
+     * Implementations without support only resolve the host names.
+     *
+     * @param uris URIs of the hosts to prepare, only their scheme, host and port are used.
+     * @return A future completed once every host is prepared or failed, never completing exceptionally.
+     */
+    @API(status = API.Status.EXPERIMENTAL)
+    default CompletableFuture<Void> warmUp(Collection<URI> uris) {
+        return WarmUp.resolve(uris);
+    }
+
+    /**
+     * Release the connections of the client, once the calls in flight are completed.
+     * No call can be made after closing the client. Implementations without resources to release do nothing.
+     */
+    @API(status = API.Status.EXPERIMENTAL)
+    @Override
+    default void close() {
+        // nothing to release.
+    }
 }
@@ -15,7 +15,9 @@
  */
 package be.yildizgames.module.http;
 
-import java.util.ServiceLoader;
+import org.apiguardian.api.API;
+
+import java.util.concurrent.Executor;
 
 /**
  *
@@ -23,8 +25,14 @@ import java.util.ServiceLoader;
  */
 public interface HttpClientBuilder {
 
+    /**
+     * Retrieve the builder registered as service, the reference implementation shipped with this module is only used when no other provider is available.
+     * The provider is looked up on the first call only, every call returns a new builder from it.
+     * @return The builder, never null.
+     * @throws java.util.NoSuchElementException If no builder is registered, the lookup is made again on the next call.
+     */
     static HttpClientBuilder provide() {
-        return ServiceLoader.load(HttpClientBuilder.class).findFirst().orElseThrow();
+        return Providers.builder();
     }
 
     /**
@@ -33,7 +41,138 @@ public interface HttpClientBuilder {
      */
     HttpClient buildHttpClient();
 
-
     HttpClient buildHttpClient(int timeout);
 
+    /**
+     * Provide a builder creating clients with the given connection settings.
+     * When building a client with a timeout, it replaces the connect and read timeouts of the configuration.
+     * @param configuration Connection settings to use, cannot be null.
+     * @return A builder using the configuration, never null.
+     * @throws UnsupportedOperationException If the implementation does not support connection settings.
+     */
+    @API(status = API.Status.EXPERIMENTAL)
+    default HttpClientBuilder withConfiguration(HttpClientConfiguration configuration) {
+        throw new UnsupportedOperationException("Configuration not supported by " + getClass().getName());
+    }
+
+    /**
+     * Provide a builder creating clients mapping the objects with the given codec, instead of the one registered as service.
+     * @param codec Codec to use, cannot be null.
+     * @return A builder using the codec, never null.
+     * @throws UnsupportedOperationException If the implementation does not support codecs.
+     */
+    @API(status = API.Status.EXPERIMENTAL)
+    default HttpClientBuilder withCodec(BodyCodec codec) {
+        throw new UnsupportedOperationException("Codec not supported by " + getClass().getName());
+    }
+
+    /**
+     * Provide a builder creating clients running their calls, object mapping and transfer listener notifications on the given executor.
+     * @param executor Executor to use, cannot be null.
+     * @return A builder using the executor, never null.
+     * @throws UnsupportedOperationException If the implementation does not support custom executors.
+     */
+    @API(status = API.Status.EXPERIMENTAL)
+    default HttpClientBuilder withExecutor(Executor executor) {
+        throw new UnsupportedOperationException("Custom executor not supported by " + getClass().getName());
+    }
+
+    /**
+     * Provide a builder creating clients reporting the measures of every request to the given metrics.
+     * @param metrics Metrics to notify, cannot be null.
+     * @return A builder using the metrics, never null.
+     * @throws UnsupportedOperationException If the implementation does not support metrics.
+     */
+    @API(status = API.Status.EXPERIMENTAL)
+    default HttpClientBuilder withMetrics(HttpClientMetrics metrics) {
+        throw new UnsupportedOperationException("Metrics not supported by " + getClass().getName());
+    }
+
+    /**
+     * Provide a builder creating clients retrying the failed idempotent requests with the given policy.
+     * @param policy Retry policy to use, cannot be null.
+     * @return A builder using the policy, never null.
+     * @throws UnsupportedOperationException If the implementation does not support retries.
+     */
+    @API(status = API.Status.EXPERIMENTAL)
+    default HttpClientBuilder withRetryPolicy(RetryPolicy policy) {
+        throw new UnsupportedOperationException("Retry not supported by " + getClass().getName());
+    }
+
+    /**
+     * Provide a builder creating clients sending copies of the slow idempotent requests with the given policy.
+     * @param policy Hedge policy to use, cannot be null.
+     * @return A builder using the policy, never null.
+     * @throws UnsupportedOperationException If the implementation does not support hedging.
+     */
+    @API(status = API.Status.EXPERIMENTAL)
+    default HttpClientBuilder withHedgePolicy(HedgePolicy policy) {
+        throw new UnsupportedOperationException("Hedging not supported by " + getClass().getName());
+    }
+
+    /**
+     * Provide a builder creating clients failing fast on the hosts with too many consecutive failures, with the given policy.
+     * @param policy Circuit breaker policy to use, cannot be null.
+     * @return A builder using the policy, never null.
+     * @throws UnsupportedOperationException If the implementation does not support circuit breakers.
+     */
+    @API(status = API.Status.EXPERIMENTAL)
+    default HttpClientBuilder withCircuitBreakerPolicy(CircuitBreakerPolicy policy) {
+        throw new UnsupportedOperationException("Circuit breaker not supported by " + getClass().getName());
+    }
+
+    /**
+     * Provide a builder creating clients notifying the transfer listeners at the rate of the given policy.
+     * A policy keeping the default executor delivers the notifications on the executor of the builder when one is set.
+     * @param policy Progress policy to use, cannot be null.
+     * @return A builder using the policy, never null.
+     * @throws UnsupportedOperationException If the implementation does not support progress policies.
+     */
+    @API(status = API.Status.EXPERIMENTAL)
+    default HttpClientBuilder withProgressPolicy(ProgressPolicy policy) {
+        throw new UnsupportedOperationException("Progress policy not supported by " + getClass().getName());
+    }
+
+    /**
+     * Provide a builder creating clients limiting the bandwidth of the bulk transfers, and serving the other calls first.
+     * @param policy Bandwidth policy to use, cannot be null.
+     * @return A builder using the policy, never null.
+     * @throws UnsupportedOperationException If the implementation does not support bandwidth limits.
+     */
+    @API(status = API.Status.EXPERIMENTAL)
+    default HttpClientBuilder withBandwidthPolicy(BandwidthPolicy policy) {
+        throw new UnsupportedOperationException("Bandwidth limits not supported by " + getClass().getName());
+    }
+
+    /**
+     * Provide a builder creating clients running their calls and transfer listener notifications on virtual threads, one per task.
+     * @return A builder using virtual threads, never null.
+     * @throws UnsupportedOperationException If the implementation does not support custom executors.
+     */
+    @API(status = API.Status.EXPERIMENTAL)
+    default HttpClientBuilder withVirtualThreads() {
+        return withExecutor(task -> Thread.ofVirtual().start(task));
+    }
+
+    /**
+     * Build a new instance of the non blocking client with no timeout.
+     * Implementations without native support run the blocking client calls on virtual threads.
+     * @return A new instance of the non blocking client, never null.
+     */
+    @API(status = API.Status.EXPERIMENTAL)
+    default AsyncHttpClient buildAsyncHttpClient() {
+        return AsyncHttpClient.fromBlocking(buildHttpClient());
+    }
+
+    /**
+     * Build a new instance of the non blocking client.
+     * Implementations without native support run the blocking client calls on virtual threads.
+     * @param timeout Timeout for the calls.
+     * @return A new instance of the non blocking client, never null.
+     */
+    @API(status = API.Status.EXPERIMENTAL)
+    default AsyncHttpClient buildAsyncHttpClient(int timeout) {
+        return AsyncHttpClient.fromBlocking(buildHttpClient(timeout));
+    }
+
 }
@@ -0,0 +1,111 @@
+/*
+ * This file is part of the Yildiz-Engine project, licenced under the MIT License  (MIT)
+ *  Copyright (c) 2026 Grégory Van den Borre
+ *  More infos available: https://engine.yildiz-games.be
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ *  documentation files (the "Software"), to deal in the Software without restriction, including without limitation
+ *  the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ *  permit persons to whom the Software is furnished to do so, subject to the following conditions: The above copyright
+ *  notice and this permission notice shall be included in all copies or substantial portions of the  Software.
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ *  WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS
+ *  OR COPYRIGHT  HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ *  OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package be.yildizgames.module.http;
+
+import org.apiguardian.api.API;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * Connection settings of a client.
+ * A zero value, for durations or limits, means no limit.
+ * The idle time and reuse of the pooled connections are left to the implementation.
+ *
+ * @param maxConnectionsPerHost Maximum number of connections opened to a single host.
+ * @param connectTimeout        Maximum time to establish a connection.
+ * @param readTimeout           Maximum time to wait for a response once the request is sent.
+ * @param preferHttp2           Use HTTP/2 when the server supports it, HTTP/1.1 otherwise.
+ * @param maxConcurrentStreams  Maximum number of requests multiplexed at once on a single HTTP/2 connection.
+ * @param uploadBufferSize      Size in bytes of the chunks read from a file while it is uploaded, 0 for the implementation default.
+ * @param chunkedUpload         Send files with chunked transfer encoding instead of providing their length upfront.
+ * @param responseCompression   Accept compressed text, object and stream responses, decompressed while being read,
+ *                              the response headers are provided as received.
+ * @param requestCompression    Content encoding compressing the posted objects and sent files, for example gzip, empty for none.
+ * @author Grégory Van den Borre
+ */
+@API(status = API.Status.EXPERIMENTAL)
+public record HttpClientConfiguration(
+        int maxConnectionsPerHost,
+        Duration connectTimeout,
+        Duration readTimeout,
+        boolean preferHttp2,
+        int maxConcurrentStreams,
+        int uploadBufferSize,
+        boolean chunkedUpload,
+        boolean responseCompression,
+        String requestCompression) {
+
+    private static final HttpClientConfiguration DEFAULT = new HttpClientConfiguration(0, Duration.ZERO, Duration.ZERO, true, 0, 0, false, true, "");
+
+    public HttpClientConfiguration {
+        Objects.requireNonNull(connectTimeout);
+        Objects.requireNonNull(readTimeout);
+        Objects.requireNonNull(requestCompression);
+        if (maxConnectionsPerHost < 0 || maxConcurrentStreams < 0 || uploadBufferSize < 0) {
+            throw new IllegalArgumentException("Limits cannot be negative.");
+        }
+        if (connectTimeout.isNegative() || readTimeout.isNegative()) {
+            throw new IllegalArgumentException("Durations cannot be negative.");
+        }
+    }
+
+    /**
+     * Provide the default configuration: no limits, no timeouts, HTTP/2 when available,
+     * compressed responses accepted and uncompressed requests.
+     *
+     * @return The default configuration, never null.
+     */
+    public static HttpClientConfiguration defaultConfiguration() {
+        return DEFAULT;
+    }
+
+    public HttpClientConfiguration withMaxConnectionsPerHost(int maxConnectionsPerHost) {
+        return new HttpClientConfiguration(maxConnectionsPerHost, this.connectTimeout, this.readTimeout, this.preferHttp2, this.maxConcurrentStreams, this.uploadBufferSize, this.chunkedUpload, this.responseCompression, this.requestCompression);
+    }
+
+    public HttpClientConfiguration withConnectTimeout(Duration connectTimeout) {
+        return new HttpClientConfiguration(this.maxConnectionsPerHost, connectTimeout, this.readTimeout, this.preferHttp2, this.maxConcurrentStreams, this.uploadBufferSize, this.chunkedUpload, this.responseCompression, this.requestCompression);
+    }
+
+    public HttpClientConfiguration withReadTimeout(Duration readTimeout) {
+        return new HttpClientConfiguration(this.maxConnectionsPerHost, this.connectTimeout, readTimeout, this.preferHttp2, this.maxConcurrentStreams, this.uploadBufferSize, this.chunkedUpload, this.responseCompression, this.requestCompression);
+    }
+
+    public HttpClientConfiguration withPreferHttp2(boolean preferHttp2) {
+        return new HttpClientConfiguration(this.maxConnectionsPerHost, this.connectTimeout, this.readTimeout, preferHttp2, this.maxConcurrentStreams, this.uploadBufferSize, this.chunkedUpload, this.responseCompression, this.requestCompression);
+    }
+
+    public HttpClientConfiguration withMaxConcurrentStreams(int maxConcurrentStreams) {
+        return new HttpClientConfiguration(this.maxConnectionsPerHost, this.connectTimeout, this.readTimeout, this.preferHttp2, maxConcurrentStreams, this.uploadBufferSize, this.chunkedUpload, this.responseCompression, this.requestCompression);
+    }
+
+    public HttpClientConfiguration withUploadBufferSize(int uploadBufferSize) {
+        return new HttpClientConfiguration(this.maxConnectionsPerHost, this.connectTimeout, this.readTimeout, this.preferHttp2, this.maxConcurrentStreams, uploadBufferSize, this.chunkedUpload, this.responseCompression, this.requestCompression);
+    }
+
+    public HttpClientConfiguration withChunkedUpload(boolean chunkedUpload) {
+        return new HttpClientConfiguration(this.maxConnectionsPerHost, this.connectTimeout, this.readTimeout, this.preferHttp2, this.maxConcurrentStreams, this.uploadBufferSize, chunkedUpload, this.responseCompression, this.requestCompression);
+    }
+
+    public HttpClientConfiguration withResponseCompression(boolean responseCompression) {
+        return new HttpClientConfiguration(this.maxConnectionsPerHost, this.connectTimeout, this.readTimeout, this.preferHttp2, this.maxConcurrentStreams, this.uploadBufferSize, this.chunkedUpload, responseCompression, this.requestCompression);
+    }
+
+    public HttpClientConfiguration withRequestCompression(String requestCompression) {
+        return new HttpClientConfiguration(this.maxConnectionsPerHost, this.connectTimeout, this.readTimeout, this.preferHttp2, this.maxConcurrentStreams, this.uploadBufferSize, this.chunkedUpload, this.responseCompression, requestCompression);
+    }
+}
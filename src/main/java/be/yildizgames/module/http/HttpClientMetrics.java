@@ -0,0 +1,63 @@
+/*
+ * This file is part of the Yildiz-Engine project, licenced under the MIT License  (MIT)
+ *  Copyright (c) 2026 Grégory Van den Borre
+ *  More infos available: https://engine.yildiz-games.be
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ *  documentation files (the "Software"), to deal in the Software without restriction, including without limitation
+ *  the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ *  permit persons to whom the Software is furnished to do so, subject to the following conditions: The above copyright
+ *  notice and this permission notice shall be included in all copies or substantial portions of the  Software.
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ *  WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS
+ *  OR COPYRIGHT  HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ *  OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package be.yildizgames.module.http;
+
+import org.apiguardian.api.API;
+
+import java.net.URI;
+
+/**
+ * Receive the measures of a client, attached with HttpClientBuilder.withMetrics.
+ * The methods are invoked on the threads completing the requests and must return quickly.
+ *
+ * @author Grégory Van den Borre
+ */
+@API(status = API.Status.EXPERIMENTAL)
+public interface HttpClientMetrics {
+
+    /**
+     * Metrics ignoring all the measures.
+     */
+    HttpClientMetrics NONE = t -> {};
+
+    /**
+     * Notify when a request is completed, with a response or a failure.
+     *
+     * @param timings Measures of the request.
+     */
+    void completed(HttpRequestTimings timings);
+
+    /**
+     * Notify when the number of requests in flight to a host changes, only reported when a limit per host is configured.
+     *
+     * @param host     Host, as scheme://name:port.
+     * @param inFlight Number of requests in flight.
+     * @param waiting  Number of requests waiting for a connection or stream.
+     * @param limit    Maximum number of requests in flight.
+     */
+    default void poolUsage(String host, int inFlight, int waiting, int limit) {
+    }
+
+    /**
+     * Notify when a request is retried.
+     *
+     * @param uri     Called URI.
+     * @param attempt Number of the attempt about to be made, starting at 2.
+     * @param cause   Failure or response code causing the retry.
+     */
+    default void retried(URI uri, int attempt, String cause) {
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * This file is part of the Yildiz-Engine project, licenced under the MIT License  (MIT)
+ *  Copyright (c) 2026 Grégory Van den Borre
+ *  More infos available: https://engine.yildiz-games.be
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ *  documentation files (the "Software"), to deal in the Software without restriction, including without limitation
+ *  the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ *  permit persons to whom the Software is furnished to do so, subject to the following conditions: The above copyright
+ *  notice and this permission notice shall be included in all copies or substantial portions of the  Software.
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ *  WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS
+ *  OR COPYRIGHT  HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ *  OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package be.yildizgames.module.http;
+
+import org.apiguardian.api.API;
+
+import java.net.URI;
+import java.util.Optional;
+
+/**
+ * Measures of a single request, durations are in nanoseconds, counted from the moment the request is submitted.
+ * A measure not provided by the implementation is set to UNAVAILABLE.
+ *
+ * @param uri         Called URI.
+ * @param method      Http method.
+ * @param httpCode    Response code, -1 if no response was received.
+ * @param dns         Time to resolve the host name.
+ * @param connect     Time to open the connection.
+ * @param tls         Time to complete the TLS handshake.
+ * @param queue       Time waiting for a connection or stream to the host to be available.
+ * @param firstByte   Time until the response headers are received.
+ * @param total       Time until the response body is completely received.
+ * @param bytesIn     Size of the received body.
+ * @param bytesOut    Size of the sent body.
+ * @param retries     Number of retries made before this response.
+ * @param failure     Technical failure preventing the call to complete, null if a response was received.
+ * @author Grégory Van den Borre
+ */
+@API(status = API.Status.EXPERIMENTAL)
+public record HttpRequestTimings(URI uri, String method, int httpCode, long dns, long connect, long tls, long queue,
+                                 long firstByte, long total, long bytesIn, long bytesOut, int retries, Throwable failure) {
+
+    /**
+     * Value of a measure not provided by the implementation.
+     */
+    public static final long UNAVAILABLE = -1;
+
+    /**
+     * @return true if the response code is in success range.
+     */
+    public boolean isSuccessful() {
+        return this.failure == null && HttpCode.isSuccessful(this.httpCode);
+    }
+
+    /**
+     * @return true if the response code is in redirection range.
+     */
+    public boolean isRedirected() {
+        return this.failure == null && HttpCode.isRedirected(this.httpCode);
+    }
+
+    /**
+     * @return true if the response code is in error range.
+     */
+    public boolean isError() {
+        return this.failure == null && HttpCode.isError(this.httpCode);
+    }
+
+    /**
+     * @return The technical failure preventing the call to complete, empty if a response was received.
+     */
+    public Optional<Throwable> getFailure() {
+        return Optional.ofNullable(this.failure);
+    }
+}
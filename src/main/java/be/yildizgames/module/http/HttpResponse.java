@@ -15,7 +15,9 @@
  */
 package be.yildizgames.module.http;
 
-import java.util.List;
+import org.apiguardian.api.API;
+
+import java.util.Optional;
 
 /**
  * @author Grégory Van den Borre
@@ -43,7 +45,30 @@ public class HttpResponse<T> {
         this.httpCode = -1;
         this.body = null;
         this.error = error;
-        this.headers = new Headers(List.of());
+        this.headers = Headers.empty();
+    }
+
+    @API(status = API.Status.EXPERIMENTAL)
+    public final int getHttpCode() {
+        return this.httpCode;
+    }
+
+    @API(status = API.Status.EXPERIMENTAL)
+    public final T getBody() {
+        return this.body;
+    }
+
+    @API(status = API.Status.EXPERIMENTAL)
+    public final Headers getHeaders() {
+        return this.headers;
+    }
+
+    /**
+     * @return The technical failure preventing the call to complete, empty if a response was received.
+     */
+    @API(status = API.Status.EXPERIMENTAL)
+    public final Optional<Throwable> getError() {
+        return Optional.ofNullable(this.error);
     }
 
     public final void handle(HttpResponseBehavior<T> behavior) {
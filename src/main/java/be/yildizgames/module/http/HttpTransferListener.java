@@ -21,6 +21,9 @@ import java.net.URI;
 
 /**
  * Provide status about transfer of a file.
+ * The updates are coalesced and delivered outside of the network threads, at the rate of the client progress policy,
+ * the last update of a transfer is delivered before its call completes.
+ * An exception thrown by a listener is logged, the other listeners are still notified and the transfer is not affected.
  *
  * @author Grégory Van den Borre
  */
@@ -31,10 +34,33 @@ public interface HttpTransferListener {
      *
      * @param uri File transferred.
      *
-     * @param lastTransferred Size of the last received chunk of data.
+     * @param lastTransferred Size of the data received since the previous notification.
      *
      * @param totalTransferred Total size of all received data.
      */
     @API(status= API.Status.STABLE)
     void received(URI uri, long lastTransferred, long totalTransferred);
+
+    /**
+     * Notify when an upload is updated.
+     *
+     * @param uri Destination of the file.
+     *
+     * @param lastTransferred Size of the data sent since the previous notification.
+     *
+     * @param totalTransferred Total size of all sent data.
+     */
+    @API(status= API.Status.EXPERIMENTAL)
+    default void sent(URI uri, long lastTransferred, long totalTransferred) {
+    }
+
+    /**
+     * Notify the progress of a transfer, with its content length and throughput.
+     * Called for every notification, after received or sent, and once more when the transfer is complete.
+     *
+     * @param progress State of the transfer.
+     */
+    @API(status= API.Status.EXPERIMENTAL)
+    default void progress(TransferProgress progress) {
+    }
 }
@@ -0,0 +1,222 @@
+/*
+ * This file is part of the Yildiz-Engine project, licenced under the MIT License  (MIT)
+ *  Copyright (c) 2026 Grégory Van den Borre
+ *  More infos available: https://engine.yildiz-games.be
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ *  documentation files (the "Software"), to deal in the Software without restriction, including without limitation
+ *  the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ *  permit persons to whom the Software is furnished to do so, subject to the following conditions: The above copyright
+ *  notice and this permission notice shall be included in all copies or substantial portions of the  Software.
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ *  WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS
+ *  OR COPYRIGHT  HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ *  OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package be.yildizgames.module.http;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Split a json body into its elements while it is read, the body being a top level array or new line delimited values.
+ * Only the structure is scanned, the elements are given as bytes to a decoder, so any json codec can map them.
+ * A single element is held in memory at once, the body is only read when the next element is requested.
+ *
+ * @author Grégory Van den Borre
+ */
+final class JsonElements<T> implements Iterator<T> {
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private final InputStream body;
+
+    private final Decoder<T> decoder;
+
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+
+    private int position;
+
+    private int limit;
+
+    /**
+     * Bytes of the current element.
+     */
+    private byte[] element = new byte[256];
+
+    private int length;
+
+    private int count;
+
+    private State state = State.START;
+
+    /**
+     * True when the current element is read but not decoded yet.
+     */
+    private boolean pending;
+
+    JsonElements(InputStream body, Decoder<T> decoder) {
+        super();
+        this.body = body;
+        this.decoder = decoder;
+    }
+
+    @Override
+    public final boolean hasNext() {
+        if (!this.pending && this.state != State.DONE) {
+            try {
+                this.pending = this.read();
+            } catch (IOException e) {
+                this.state = State.DONE;
+                throw new UncheckedIOException(e);
+            }
+        }
+        return this.pending;
+    }
+
+    @Override
+    public final T next() {
+        if (!this.hasNext()) {
+            throw new NoSuchElementException();
+        }
+        this.pending = false;
+        this.count++;
+        try {
+            return this.decoder.decode(new ByteArrayInputStream(this.element, 0, this.length));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private boolean read() throws IOException {
+        if (this.state == State.START) {
+            var first = this.nextByte();
+            while (isWhitespace(first)) {
+                first = this.nextByte();
+            }
+            if (first < 0) {
+                this.state = State.DONE;
+                return false;
+            }
+            if (first == '[') {
+                this.state = State.ARRAY;
+            } else {
+                this.state = State.LINES;
+                this.position--;
+            }
+        }
+        return this.scan(this.state == State.ARRAY);
+    }
+
+    /**
+     * Read the next element, ended by a comma or the closing bracket in an array, or by a new line.
+     *
+     * @return True if an element was read, false at the end of the body.
+     */
+    private boolean scan(boolean array) throws IOException {
+        this.length = 0;
+        var depth = 0;
+        var inString = false;
+        var escaped = false;
+        while (true) {
+            var c = this.nextByte();
+            if (c < 0) {
+                if (array || inString || depth > 0) {
+                    throw new IOException("Unexpected end of the json body.");
+                }
+                this.state = State.DONE;
+                return this.trim() > 0;
+            }
+            if (inString) {
+                if (escaped) {
+                    escaped = false;
+                } else if (c == '\\') {
+                    escaped = true;
+                } else if (c == '"') {
+                    inString = false;
+                }
+                this.append(c);
+                continue;
+            }
+            if (depth == 0) {
+                if (array && (c == ',' || c == ']')) {
+                    return this.endOfArrayElement(c == ']');
+                }
+                if (!array && c == '\n') {
+                    if (this.trim() > 0) {
+                        return true;
+                    }
+                    continue;
+                }
+            }
+            if (c == '"') {
+                inString = true;
+            } else if (c == '{' || c == '[') {
+                depth++;
+            } else if (c == '}' || c == ']') {
+                depth--;
+            } else if (this.length == 0 && isWhitespace(c)) {
+                continue;
+            }
+            this.append(c);
+        }
+    }
+
+    private boolean endOfArrayElement(boolean closed) throws IOException {
+        if (closed) {
+            this.state = State.DONE;
+        }
+        if (this.trim() > 0) {
+            return true;
+        }
+        if (closed && this.count == 0) {
+            return false;
+        }
+        throw new IOException("Empty element in the json array.");
+    }
+
+    private int trim() {
+        while (this.length > 0 && isWhitespace(this.element[this.length - 1])) {
+            this.length--;
+        }
+        return this.length;
+    }
+
+    private void append(int c) {
+        if (this.length == this.element.length) {
+            this.element = Arrays.copyOf(this.element, this.length * 2);
+        }
+        this.element[this.length++] = (byte) c;
+    }
+
+    private int nextByte() throws IOException {
+        if (this.position == this.limit) {
+            var read = this.body.read(this.buffer);
+            if (read < 0) {
+                return -1;
+            }
+            this.position = 0;
+            this.limit = read;
+        }
+        return this.buffer[this.position++] & 0xFF;
+    }
+
+    private static boolean isWhitespace(int c) {
+        return c == ' ' || c == '\n' || c == '\r' || c == '\t';
+    }
+
+    private enum State {
+        START, ARRAY, LINES, DONE
+    }
+
+    @FunctionalInterface
+    interface Decoder<T> {
+
+        T decode(InputStream element) throws IOException;
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * This file is part of the Yildiz-Engine project, licenced under the MIT License  (MIT)
+ *  Copyright (c) 2026 Grégory Van den Borre
+ *  More infos available: https://engine.yildiz-games.be
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ *  documentation files (the "Software"), to deal in the Software without restriction, including without limitation
+ *  the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ *  permit persons to whom the Software is furnished to do so, subject to the following conditions: The above copyright
+ *  notice and this permission notice shall be included in all copies or substantial portions of the  Software.
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ *  WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS
+ *  OR COPYRIGHT  HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ *  OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package be.yildizgames.module.http;
+
+import org.apiguardian.api.API;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock free histogram recording values from many threads with little contention.
+ * Every power of two range is split in 16 linear buckets, values below 32 have a bucket of their own.
+ * Percentiles are approximated by the upper bound of their bucket, so at most 6.25% above the real value.
+ *
+ * @author Grégory Van den Borre
+ */
+@API(status = API.Status.EXPERIMENTAL)
+public final class LatencyHistogram {
+
+    /**
+     * Number of bits of a value, after its highest one, selecting its bucket in the power of two range.
+     */
+    private static final int SUB_BITS = 4;
+
+    private static final int SUB_BUCKETS = 1 << SUB_BITS;
+
+    private final LongAdder[] buckets = new LongAdder[(Long.SIZE - SUB_BITS) * SUB_BUCKETS];
+
+    private final LongAdder count = new LongAdder();
+
+    private final LongAdder sum = new LongAdder();
+
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    public LatencyHistogram() {
+        super();
+        for (int i = 0; i < this.buckets.length; i++) {
+            this.buckets[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Record a value, negative values are ignored.
+     *
+     * @param value Value to record.
+     */
+    public void record(long value) {
+        if (value < 0) {
+            return;
+        }
+        this.buckets[index(value)].increment();
+        this.count.increment();
+        this.sum.add(value);
+        this.max.accumulate(value);
+    }
+
+    /**
+     * @return Number of recorded values.
+     */
+    public long count() {
+        return this.count.sum();
+    }
+
+    /**
+     * @return Mean of the recorded values, 0 if none.
+     */
+    public long mean() {
+        var c = this.count.sum();
+        return c == 0 ? 0 : this.sum.sum() / c;
+    }
+
+    /**
+     * @return Highest recorded value, 0 if none.
+     */
+    public long max() {
+        return this.max.get();
+    }
+
+    /**
+     * Provide an upper bound of a percentile.
+     *
+     * @param percentile Percentile, from 0 to 100.
+     * @return The upper bound of the bucket containing the percentile, 0 if no value was recorded.
+     */
+    public long percentile(double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("Percentile must be between 0 and 100.");
+        }
+        var total = 0L;
+        var counts = new long[this.buckets.length];
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = this.buckets[i].sum();
+            total += counts[i];
+        }
+        var rank = (long) Math.ceil(total * percentile / 100);
+        var seen = 0L;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank && seen > 0) {
+                return Math.min(upperBound(i), this.max());
+            }
+        }
+        return 0;
+    }
+
+    private static int index(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        var shift = Long.SIZE - 1 - Long.numberOfLeadingZeros(value) - SUB_BITS;
+        return (shift + 1) * SUB_BUCKETS + (int) ((value >>> shift) & (SUB_BUCKETS - 1));
+    }
+
+    private static long upperBound(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        var shift = index / SUB_BUCKETS - 1;
+        var next = SUB_BUCKETS + index % SUB_BUCKETS + 1L;
+        return next > Long.MAX_VALUE >>> shift ? Long.MAX_VALUE : (next << shift) - 1;
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * This file is part of the Yildiz-Engine project, licenced under the MIT License  (MIT)
+ *  Copyright (c) 2026 Grégory Van den Borre
+ *  More infos available: https://engine.yildiz-games.be
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ *  documentation files (the "Software"), to deal in the Software without restriction, including without limitation
+ *  the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ *  permit persons to whom the Software is furnished to do so, subject to the following conditions: The above copyright
+ *  notice and this permission notice shall be included in all copies or substantial portions of the  Software.
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ *  WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS
+ *  OR COPYRIGHT  HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ *  OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package be.yildizgames.module.http;
+
+import org.apiguardian.api.API;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+
+/**
+ * Rate of the notifications sent to the transfer listeners.
+ * The updates of a transfer are coalesced, a notification is sent once the interval is elapsed or the threshold is transferred
+ * since the previous one, the last notification of a transfer is always sent.
+ * Notifications are delivered on the executor, never on the thread receiving or sending the data,
+ * and those of a single transfer are delivered one at a time, in order.
+ *
+ * @param interval  Minimum time between two notifications of a transfer, zero to notify every chunk.
+ * @param threshold Size transferred triggering a notification before the interval is elapsed, zero to only rely on the interval.
+ * @param executor  Executor delivering the notifications.
+ * @author Grégory Van den Borre
+ */
+@API(status = API.Status.EXPERIMENTAL)
+public record ProgressPolicy(Duration interval, long threshold, Executor executor) {
+
+    private static final ProgressPolicy DEFAULT = new ProgressPolicy(Duration.ofMillis(100), 1024 * 1024, task -> Thread.ofVirtual().start(task));
+
+    public ProgressPolicy {
+        Objects.requireNonNull(interval);
+        Objects.requireNonNull(executor);
+        if (interval.isNegative()) {
+            throw new IllegalArgumentException("Interval cannot be negative.");
+        }
+        if (threshold < 0) {
+            throw new IllegalArgumentException("Threshold cannot be negative.");
+        }
+    }
+
+    /**
+     * Provide the default policy: a notification every 100ms or every MiB, delivered on virtual threads.
+     * Builders given an executor deliver the notifications on it instead, as long as the policy keeps this default executor.
+     *
+     * @return The default policy, never null.
+     */
+    public static ProgressPolicy defaultPolicy() {
+        return DEFAULT;
+    }
+
+    public ProgressPolicy withInterval(Duration interval) {
+        return new ProgressPolicy(interval, this.threshold, this.executor);
+    }
+
+    public ProgressPolicy withThreshold(long threshold) {
+        return new ProgressPolicy(this.interval, threshold, this.executor);
+    }
+
+    public ProgressPolicy withExecutor(Executor executor) {
+        return new ProgressPolicy(this.interval, this.threshold, executor);
+    }
+}
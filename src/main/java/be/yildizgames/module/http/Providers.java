@@ -0,0 +1,89 @@
+/*
+ * This file is part of the Yildiz-Engine project, licenced under the MIT License  (MIT)
+ *  Copyright (c) 2026 Grégory Van den Borre
+ *  More infos available: https://engine.yildiz-games.be
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ *  documentation files (the "Software"), to deal in the Software without restriction, including without limitation
+ *  the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ *  permit persons to whom the Software is furnished to do so, subject to the following conditions: The above copyright
+ *  notice and this permission notice shall be included in all copies or substantial portions of the  Software.
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ *  WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS
+ *  OR COPYRIGHT  HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ *  OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package be.yildizgames.module.http;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.ServiceLoader;
+
+/**
+ * Services registered for the module, each one is looked up once, on first use, the class path or module path is not scanned again.
+ * The builder lookup is only kept once a provider is found, so a missing provider fails every call the same way.
+ *
+ * @author Grégory Van den Borre
+ */
+final class Providers {
+
+    /**
+     * Package of the reference implementation shipped with this module, only used when no other provider is available.
+     */
+    private static final String REFERENCE_PACKAGE = HttpClientBuilder.class.getPackageName() + ".java";
+
+    /**
+     * Builder provider, only kept once found: each call gets its own instance without scanning again.
+     */
+    private static volatile ServiceLoader.Provider<HttpClientBuilder> builder;
+
+    private Providers() {
+        super();
+    }
+
+    /**
+     * @throws java.util.NoSuchElementException If no builder is registered, the lookup is made again on the next call.
+     */
+    static HttpClientBuilder builder() {
+        var provider = builder;
+        if (provider == null) {
+            provider = ServiceLoader.load(HttpClientBuilder.class)
+                    .stream()
+                    .min(Comparator.comparing(p -> p.type().getPackageName().equals(REFERENCE_PACKAGE)))
+                    .orElseThrow();
+            builder = provider;
+        }
+        return provider.get();
+    }
+
+    static Optional<BodyCodec> codec() {
+        return CodecHolder.CODEC;
+    }
+
+    static List<ContentEncoding> encodings() {
+        return EncodingHolder.ENCODINGS;
+    }
+
+    private static final class CodecHolder {
+
+        private static final Optional<BodyCodec> CODEC = ServiceLoader.load(BodyCodec.class).findFirst();
+    }
+
+    private static final class EncodingHolder {
+
+        private static final List<ContentEncoding> ENCODINGS = load();
+
+        private static List<ContentEncoding> load() {
+            var result = new ArrayList<ContentEncoding>();
+            ServiceLoader.load(ContentEncoding.class).forEach(result::add);
+            for (var standard : StandardContentEncoding.values()) {
+                if (result.stream().noneMatch(e -> e.name().equalsIgnoreCase(standard.name()))) {
+                    result.add(standard);
+                }
+            }
+            return List.copyOf(result);
+        }
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * This file is part of the Yildiz-Engine project, licenced under the MIT License  (MIT)
+ *  Copyright (c) 2026 Grégory Van den Borre
+ *  More infos available: https://engine.yildiz-games.be
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ *  documentation files (the "Software"), to deal in the Software without restriction, including without limitation
+ *  the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ *  permit persons to whom the Software is furnished to do so, subject to the following conditions: The above copyright
+ *  notice and this permission notice shall be included in all copies or substantial portions of the  Software.
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ *  WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS
+ *  OR COPYRIGHT  HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ *  OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package be.yildizgames.module.http;
+
+import org.apiguardian.api.API;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Retry of the idempotent requests (GET, HEAD, PUT, DELETE, OPTIONS, TRACE) failing with an I/O error or a retryable http code,
+ * waiting longer before every new attempt.
+ * Once the attempts are exhausted, the last failure or response is provided to the caller.
+ *
+ * @param maxAttempts    Maximum number of attempts, including the first one, 1 to disable retries.
+ * @param initialDelay   Delay before the first retry.
+ * @param maxDelay       Highest delay between two attempts.
+ * @param multiplier     Factor applied to the delay after every attempt.
+ * @param jitter         Part of the delay randomly removed to spread the retries of concurrent callers, from 0 to 1.
+ * @param retryableCodes Http codes for which a request is retried.
+ * @author Grégory Van den Borre
+ */
+@API(status = API.Status.EXPERIMENTAL)
+public record RetryPolicy(int maxAttempts, Duration initialDelay, Duration maxDelay, double multiplier, double jitter, Set<Integer> retryableCodes) {
+
+    private static final RetryPolicy NONE = new RetryPolicy(1, Duration.ZERO, Duration.ZERO, 1, 0, Set.of());
+
+    private static final RetryPolicy DEFAULT = new RetryPolicy(3, Duration.ofMillis(100), Duration.ofSeconds(5), 2, 0.5, Set.of(429, 502, 503, 504));
+
+    public RetryPolicy {
+        Objects.requireNonNull(initialDelay);
+        Objects.requireNonNull(maxDelay);
+        retryableCodes = Set.copyOf(retryableCodes);
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("At least one attempt is required.");
+        }
+        if (initialDelay.isNegative() || maxDelay.isNegative()) {
+            throw new IllegalArgumentException("Durations cannot be negative.");
+        }
+        if (multiplier < 1) {
+            throw new IllegalArgumentException("Multiplier cannot be lower than 1.");
+        }
+        if (jitter < 0 || jitter > 1) {
+            throw new IllegalArgumentException("Jitter must be between 0 and 1.");
+        }
+    }
+
+    /**
+     * @return A policy never retrying.
+     */
+    public static RetryPolicy none() {
+        return NONE;
+    }
+
+    /**
+     * Provide the default policy: 3 attempts, starting with 100ms and doubling up to 5s, with 50% jitter,
+     * retrying on 429, 502, 503 and 504 codes.
+     *
+     * @return The default policy, never null.
+     */
+    public static RetryPolicy defaultPolicy() {
+        return DEFAULT;
+    }
+
+    public RetryPolicy withMaxAttempts(int maxAttempts) {
+        return new RetryPolicy(maxAttempts, this.initialDelay, this.maxDelay, this.multiplier, this.jitter, this.retryableCodes);
+    }
+
+    public RetryPolicy withInitialDelay(Duration initialDelay) {
+        return new RetryPolicy(this.maxAttempts, initialDelay, this.maxDelay, this.multiplier, this.jitter, this.retryableCodes);
+    }
+
+    public RetryPolicy withMaxDelay(Duration maxDelay) {
+        return new RetryPolicy(this.maxAttempts, this.initialDelay, maxDelay, this.multiplier, this.jitter, this.retryableCodes);
+    }
+
+    public RetryPolicy withMultiplier(double multiplier) {
+        return new RetryPolicy(this.maxAttempts, this.initialDelay, this.maxDelay, multiplier, this.jitter, this.retryableCodes);
+    }
+
+    public RetryPolicy withJitter(double jitter) {
+        return new RetryPolicy(this.maxAttempts, this.initialDelay, this.maxDelay, this.multiplier, jitter, this.retryableCodes);
+    }
+
+    public RetryPolicy withRetryableCodes(Set<Integer> retryableCodes) {
+        return new RetryPolicy(this.maxAttempts, this.initialDelay, this.maxDelay, this.multiplier, this.jitter, retryableCodes);
+    }
+
+    /**
+     * Compute the delay before a retry.
+     *
+     * @param retry Number of the retry, starting at 1.
+     * @return The delay to wait, never null.
+     */
+    public Duration delay(int retry) {
+        var delay = Math.min(this.initialDelay.toNanos() * Math.pow(this.multiplier, retry - 1.0), this.maxDelay.toNanos());
+        return Duration.ofNanos((long) (delay * (1 - this.jitter * ThreadLocalRandom.current().nextDouble())));
+    }
+}
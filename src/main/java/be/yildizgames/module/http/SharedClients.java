@@ -0,0 +1,192 @@
+/*
+ * This file is part of the Yildiz-Engine project, licenced under the MIT License  (MIT)
+ *  Copyright (c) 2026 Grégory Van den Borre
+ *  More infos available: https://engine.yildiz-games.be
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ *  documentation files (the "Software"), to deal in the Software without restriction, including without limitation
+ *  the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ *  permit persons to whom the Software is furnished to do so, subject to the following conditions: The above copyright
+ *  notice and this permission notice shall be included in all copies or substantial portions of the  Software.
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ *  WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS
+ *  OR COPYRIGHT  HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ *  OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package be.yildizgames.module.http;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+
+/**
+ * Clients shared by the whole application, each one is built on first use and never closed.
+ *
+ * @author Grégory Van den Borre
+ */
+final class SharedClients {
+
+    /**
+     * Built on first successful use, a failed build, when no builder is registered, is attempted again on the next call.
+     */
+    private static volatile HttpClient httpClient;
+
+    private static volatile AsyncHttpClient asyncHttpClient;
+
+    private SharedClients() {
+        super();
+    }
+
+    static HttpClient httpClient() {
+        var client = httpClient;
+        if (client == null) {
+            synchronized (SharedClients.class) {
+                client = httpClient;
+                if (client == null) {
+                    client = new SharedHttpClient(HttpClientBuilder.provide().buildHttpClient());
+                    httpClient = client;
+                }
+            }
+        }
+        return client;
+    }
+
+    static AsyncHttpClient asyncHttpClient() {
+        var client = asyncHttpClient;
+        if (client == null) {
+            synchronized (SharedClients.class) {
+                client = asyncHttpClient;
+                if (client == null) {
+                    client = new SharedAsyncHttpClient(HttpClientBuilder.provide().buildAsyncHttpClient());
+                    asyncHttpClient = client;
+                }
+            }
+        }
+        return client;
+    }
+
+    /**
+     * Shared blocking client, ignoring close.
+     */
+    private static final class SharedHttpClient extends ForwardingHttpClient {
+
+        private SharedHttpClient(HttpClient delegate) {
+            super(delegate);
+        }
+
+        @Override
+        public void close() {
+            // shared, the connections are released when the application stops.
+        }
+    }
+
+    /**
+     * Shared non blocking client, forwarding every call but close.
+     */
+    private static final class SharedAsyncHttpClient implements AsyncHttpClient {
+
+        private final AsyncHttpClient delegate;
+
+        private SharedAsyncHttpClient(AsyncHttpClient delegate) {
+            super();
+            this.delegate = Objects.requireNonNull(delegate);
+        }
+
+        @Override
+        public CompletableFuture<HttpResponse<String>> getText(URI to) {
+            return this.delegate.getText(to);
+        }
+
+        @Override
+        public CompletableFuture<HttpResponse<String>> getText(String to) {
+            return this.delegate.getText(to);
+        }
+
+        @Override
+        public <T> CompletableFuture<HttpResponse<T>> getObject(URI to, Class<T> clazz) {
+            return this.delegate.getObject(to, clazz);
+        }
+
+        @Override
+        public <T> CompletableFuture<HttpResponse<T>> getObject(String to, Class<T> clazz) {
+            return this.delegate.getObject(to, clazz);
+        }
+
+        @Override
+        public <T> CompletableFuture<HttpResponse<T>> getObject(URI to, TypeReference<T> type) {
+            return this.delegate.getObject(to, type);
+        }
+
+        @Override
+        public <T, R> CompletableFuture<HttpResponse<R>> postObject(String uri, T objectToPost, Class<R> responseClazz) {
+            return this.delegate.postObject(uri, objectToPost, responseClazz);
+        }
+
+        @Override
+        public CompletableFuture<HttpResponse<InputStream>> getInputStream(URI to) {
+            return this.delegate.getInputStream(to);
+        }
+
+        @Override
+        public CompletableFuture<HttpResponse<Reader>> getReader(URI to) {
+            return this.delegate.getReader(to);
+        }
+
+        @Override
+        public CompletableFuture<HttpResponse<String>> sendFile(URI to, Path file, String mime) {
+            return this.delegate.sendFile(to, file, mime);
+        }
+
+        @Override
+        public CompletableFuture<HttpResponse<Path>> receiveFile(URI to, Path destination) {
+            return this.delegate.receiveFile(to, destination);
+        }
+
+        @Override
+        public CompletableFuture<HttpResponse<Path>> receiveFile(URI to, Path destination, int segments) {
+            return this.delegate.receiveFile(to, destination, segments);
+        }
+
+        @Override
+        public CompletableFuture<HttpResponse<ByteBuffer>> receiveBuffer(URI to, ByteBuffer target) {
+            return this.delegate.receiveBuffer(to, target);
+        }
+
+        @Override
+        public CompletableFuture<HttpResponse<Flow.Publisher<List<ByteBuffer>>>> getPublisher(URI to) {
+            return this.delegate.getPublisher(to);
+        }
+
+        @Override
+        public void addTransferListener(HttpTransferListener l) {
+            this.delegate.addTransferListener(l);
+        }
+
+        @Override
+        public void addTransferListener(URI uri, HttpTransferListener l) {
+            this.delegate.addTransferListener(uri, l);
+        }
+
+        @Override
+        public void removeTransferListener(HttpTransferListener l) {
+            this.delegate.removeTransferListener(l);
+        }
+
+        @Override
+        public CompletableFuture<Void> warmUp(Collection<URI> uris) {
+            return this.delegate.warmUp(uris);
+        }
+
+        @Override
+        public void close() {
+            // shared, the connections are released when the application stops.
+        }
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * This file is part of the Yildiz-Engine project, licenced under the MIT License  (MIT)
+ *  Copyright (c) 2026 Grégory Van den Borre
+ *  More infos available: https://engine.yildiz-games.be
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ *  documentation files (the "Software"), to deal in the Software without restriction, including without limitation
+ *  the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ *  permit persons to whom the Software is furnished to do so, subject to the following conditions: The above copyright
+ *  notice and this permission notice shall be included in all copies or substantial portions of the  Software.
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ *  WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS
+ *  OR COPYRIGHT  HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ *  OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package be.yildizgames.module.http;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Encodings supported by the JDK, always available.
+ * deflate uses the zlib format, as defined by the HTTP specification.
+ *
+ * @author Grégory Van den Borre
+ */
+final class StandardContentEncoding implements ContentEncoding {
+
+    private static final int BUFFER_SIZE = 8192;
+
+    static final StandardContentEncoding GZIP = new StandardContentEncoding("gzip");
+
+    static final StandardContentEncoding DEFLATE = new StandardContentEncoding("deflate");
+
+    private final String name;
+
+    private StandardContentEncoding(String name) {
+        super();
+        this.name = name;
+    }
+
+    static List<ContentEncoding> values() {
+        return List.of(GZIP, DEFLATE);
+    }
+
+    @Override
+    public String name() {
+        return this.name;
+    }
+
+    @Override
+    public InputStream decode(InputStream encoded) throws IOException {
+        return this == GZIP ? new GZIPInputStream(encoded, BUFFER_SIZE) : new InflaterInputStream(encoded);
+    }
+
+    @Override
+    public OutputStream encode(OutputStream target) throws IOException {
+        return this == GZIP ? new GZIPOutputStream(target, BUFFER_SIZE) : new DeflaterOutputStream(target);
+    }
+
+    @Override
+    public String toString() {
+        return this.name;
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * This file is part of the Yildiz-Engine project, licenced under the MIT License  (MIT)
+ *  Copyright (c) 2026 Grégory Van den Borre
+ *  More infos available: https://engine.yildiz-games.be
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ *  documentation files (the "Software"), to deal in the Software without restriction, including without limitation
+ *  the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ *  permit persons to whom the Software is furnished to do so, subject to the following conditions: The above copyright
+ *  notice and this permission notice shall be included in all copies or substantial portions of the  Software.
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ *  WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS
+ *  OR COPYRIGHT  HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ *  OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package be.yildizgames.module.http;
+
+import org.apiguardian.api.API;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * State of a transfer, as notified to the transfer listeners.
+ *
+ * @param uri             URI of the transfer.
+ * @param direction       Direction of the transfer.
+ * @param lastTransferred Size of the data transferred since the previous notification.
+ * @param transferred     Total size of the transferred data, including the data already present when a download is resumed.
+ * @param contentLength   Expected total size, -1 if unknown.
+ * @param elapsed         Time since the start of the transfer.
+ * @param throttled       Time the transfer was paused by the bandwidth limits.
+ * @param complete        True for the last notification of the transfer, sent when it is either done or failed.
+ * @author Grégory Van den Borre
+ */
+@API(status = API.Status.EXPERIMENTAL)
+public record TransferProgress(URI uri, Direction direction, long lastTransferred, long transferred, long contentLength, Duration elapsed, Duration throttled, boolean complete) {
+
+    public TransferProgress {
+        Objects.requireNonNull(uri);
+        Objects.requireNonNull(direction);
+        Objects.requireNonNull(elapsed);
+        Objects.requireNonNull(throttled);
+    }
+
+    /**
+     * @return The transferred part of the content, from 0 to 100, -1 if the content length is unknown.
+     */
+    public double percentage() {
+        if (this.contentLength < 0) {
+            return -1;
+        }
+        return this.contentLength == 0 ? 100 : Math.min(100, this.transferred * 100.0 / this.contentLength);
+    }
+
+    /**
+     * @return The average throughput since the start of the transfer, in bytes per second.
+     */
+    public double throughput() {
+        var nanos = this.elapsed.toNanos();
+        return nanos == 0 ? 0 : this.transferred * 1_000_000_000.0 / nanos;
+    }
+
+    public enum Direction {
+
+        /**
+         * Request body sent to the server.
+         */
+        SENT,
+
+        /**
+         * Response body received from the server.
+         */
+        RECEIVED
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * This file is part of the Yildiz-Engine project, licenced under the MIT License  (MIT)
+ *  Copyright (c) 2026 Grégory Van den Borre
+ *  More infos available: https://engine.yildiz-games.be
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ *  documentation files (the "Software"), to deal in the Software without restriction, including without limitation
+ *  the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ *  permit persons to whom the Software is furnished to do so, subject to the following conditions: The above copyright
+ *  notice and this permission notice shall be included in all copies or substantial portions of the  Software.
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ *  WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS
+ *  OR COPYRIGHT  HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ *  OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package be.yildizgames.module.http;
+
+import org.apiguardian.api.API;
+
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.Objects;
+
+/**
+ * Capture a generic type, to map a body to a parameterized type, for example a list of objects:
+ * <pre>
+ * new TypeReference&lt;List&lt;Item&gt;&gt;() {}
+ * </pre>
+ *
+ * @param <T> Captured type.
+ * @author Grégory Van den Borre
+ */
+@API(status = API.Status.EXPERIMENTAL)
+public abstract class TypeReference<T> {
+
+    private final Type type;
+
+    /**
+     * Capture the type argument given by the sub class.
+     */
+    protected TypeReference() {
+        super();
+        if (!(getClass().getGenericSuperclass() instanceof ParameterizedType parameterized)) {
+            throw new IllegalStateException("TypeReference must be created with a type argument.");
+        }
+        this.type = parameterized.getActualTypeArguments()[0];
+    }
+
+    private TypeReference(Type type) {
+        super();
+        this.type = Objects.requireNonNull(type);
+    }
+
+    /**
+     * Build a reference from a non generic type.
+     *
+     * @param clazz Class to reference.
+     * @param <T>   Referenced type.
+     * @return The reference, never null.
+     */
+    public static <T> TypeReference<T> of(Class<T> clazz) {
+        return new TypeReference<>(clazz) {};
+    }
+
+    public final Type getType() {
+        return this.type;
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * This file is part of the Yildiz-Engine project, licenced under the MIT License  (MIT)
+ *  Copyright (c) 2026 Grégory Van den Borre
+ *  More infos available: https://engine.yildiz-games.be
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ *  documentation files (the "Software"), to deal in the Software without restriction, including without limitation
+ *  the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ *  permit persons to whom the Software is furnished to do so, subject to the following conditions: The above copyright
+ *  notice and this permission notice shall be included in all copies or substantial portions of the  Software.
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ *  WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS
+ *  OR COPYRIGHT  HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ *  OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package be.yildizgames.module.http;
+
+import java.net.InetAddress;
+import java.net.URI;
+import java.net.UnknownHostException;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Resolve the hosts of the URIs in the background, for the implementations without connection warm up.
+ * The addresses are kept in the InetAddress cache, for the duration of the networkaddress.cache.ttl security property.
+ *
+ * @author Grégory Van den Borre
+ */
+final class WarmUp {
+
+    private WarmUp() {
+        super();
+    }
+
+    /**
+     * @return A future completed once every distinct host is resolved or failed to resolve, never completing exceptionally.
+     */
+    static CompletableFuture<Void> resolve(Collection<URI> uris) {
+        return CompletableFuture.allOf(uris.stream()
+                .map(URI::getHost)
+                .filter(Objects::nonNull)
+                .distinct()
+                .map(host -> CompletableFuture.runAsync(() -> resolve(host), task -> Thread.ofVirtual().start(task)))
+                .toArray(CompletableFuture[]::new));
+    }
+
+    private static void resolve(String host) {
+        try {
+            InetAddress.getAllByName(host);
+        } catch (UnknownHostException e) {
+            // best effort, the failure is reported by the first call to the host.
+        }
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * This file is part of the Yildiz-Engine project, licenced under the MIT License  (MIT)
+ *  Copyright (c) 2026 Grégory Van den Borre
+ *  More infos available: https://engine.yildiz-games.be
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ *  documentation files (the "Software"), to deal in the Software without restriction, including without limitation
+ *  the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ *  permit persons to whom the Software is furnished to do so, subject to the following conditions: The above copyright
+ *  notice and this permission notice shall be included in all copies or substantial portions of the  Software.
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ *  WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS
+ *  OR COPYRIGHT  HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ *  OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package be.yildizgames.module.http.java;
+
+import be.yildizgames.module.http.BandwidthPolicy;
+
+import java.net.URI;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Token buckets enforcing the bandwidth policy, the transfers take tokens after transferring a chunk and are paused while in debt.
+ *
+ * @author Grégory Van den Borre
+ */
+final class Bandwidth {
+
+    private final BandwidthPolicy policy;
+
+    private final TokenBucket global;
+
+    private final Map<String, TokenBucket> hosts = new ConcurrentHashMap<>();
+
+    Bandwidth(BandwidthPolicy policy) {
+        super();
+        this.policy = policy;
+        this.global = policy.maxBytesPerSecond() > 0 ? new TokenBucket(policy.maxBytesPerSecond(), policy) : null;
+    }
+
+    /**
+     * Take the tokens for transferred data.
+     *
+     * @param uri  URI of the transfer.
+     * @param size Size of the transferred data.
+     * @return Time to wait before transferring more, in nanoseconds, 0 if not limited.
+     */
+    final long take(URI uri, long size) {
+        if (!this.policy.isLimited()) {
+            return 0;
+        }
+        var delay = this.global == null ? 0 : this.global.take(size);
+        if (this.policy.maxBytesPerSecondPerHost() > 0) {
+            var host = this.hosts.computeIfAbsent(HostPermits.key(uri), k -> new TokenBucket(this.policy.maxBytesPerSecondPerHost(), this.policy));
+            delay = Math.max(delay, host.take(size));
+        }
+        return delay;
+    }
+
+    private static final class TokenBucket {
+
+        private static final double NANOS = 1_000_000_000.0;
+
+        private final double rate;
+
+        private final double capacity;
+
+        private double tokens;
+
+        private long refilled = System.nanoTime();
+
+        private TokenBucket(long rate, BandwidthPolicy policy) {
+            super();
+            this.rate = rate;
+            this.capacity = rate * (policy.burst().toNanos() / NANOS);
+            this.tokens = this.capacity;
+        }
+
+        /**
+         * Tokens can go below zero, the debt is then the time to wait.
+         */
+        private synchronized long take(long size) {
+            var now = System.nanoTime();
+            this.tokens = Math.min(this.capacity, this.tokens + (now - this.refilled) / NANOS * this.rate);
+            this.refilled = now;
+            this.tokens -= size;
+            return this.tokens >= 0 ? 0 : (long) (-this.tokens / this.rate * NANOS);
+        }
+    }
+}
@@ -0,0 +1,215 @@
+/*
+ * This file is part of the Yildiz-Engine project, licenced under the MIT License  (MIT)
+ *  Copyright (c) 2026 Grégory Van den Borre
+ *  More infos available: https://engine.yildiz-games.be
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ *  documentation files (the "Software"), to deal in the Software without restriction, including without limitation
+ *  the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ *  permit persons to whom the Software is furnished to do so, subject to the following conditions: The above copyright
+ *  notice and this permission notice shall be included in all copies or substantial portions of the  Software.
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ *  WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS
+ *  OR COPYRIGHT  HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ *  OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package be.yildizgames.module.http.java;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.net.http.HttpRequest;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Bounded pipe between a virtual thread producing a request body and the client sending it.
+ * Unlike PipedInputStream, waiting is done with a lock instead of monitors, so a waiting virtual thread releases its carrier,
+ * and cannot starve the client threads when few carriers are available.
+ * A failure of the producer is handed to the reading side, the request is then aborted instead of sending a truncated body.
+ *
+ * @author Grégory Van den Borre
+ */
+final class BodyPipe {
+
+    private static final int SIZE = 64 * 1024;
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final Condition readable = this.lock.newCondition();
+
+    private final Condition writable = this.lock.newCondition();
+
+    private final byte[] buffer = new byte[SIZE];
+
+    /**
+     * Position of the next byte to read.
+     */
+    private int head;
+
+    private int size;
+
+    /**
+     * The producer wrote the whole body.
+     */
+    private boolean complete;
+
+    /**
+     * The reading side is closed, the body is no longer needed.
+     */
+    private boolean abandoned;
+
+    private Throwable failure;
+
+    private BodyPipe() {
+        super();
+    }
+
+    /**
+     * Provide a request body written by the producer, started on a new virtual thread every time the client subscribes.
+     */
+    static HttpRequest.BodyPublisher publisher(Producer producer) {
+        return HttpRequest.BodyPublishers.ofInputStream(() -> {
+            var pipe = new BodyPipe();
+            Thread.ofVirtual().start(() -> pipe.produce(producer));
+            return pipe.new Source();
+        });
+    }
+
+    private void produce(Producer producer) {
+        var sink = new Sink();
+        try {
+            producer.write(sink);
+        } catch (Throwable t) {
+            this.fail(t);
+            return;
+        }
+        sink.close();
+    }
+
+    private void fail(Throwable t) {
+        this.lock.lock();
+        try {
+            this.failure = t;
+            this.readable.signalAll();
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    private static InterruptedIOException interrupted() {
+        Thread.currentThread().interrupt();
+        return new InterruptedIOException("Interrupted while waiting on the request body pipe.");
+    }
+
+    /**
+     * Write the body in the pipe.
+     */
+    @FunctionalInterface
+    interface Producer {
+
+        /**
+         * @param out Stream to write the body to, closed once this call returns, a thrown exception aborts the request.
+         */
+        void write(OutputStream out) throws IOException;
+    }
+
+    private final class Sink extends OutputStream {
+
+        @Override
+        public void write(int b) throws IOException {
+            this.write(new byte[]{(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            lock.lock();
+            try {
+                while (len > 0) {
+                    while (size == buffer.length && !abandoned) {
+                        writable.await();
+                    }
+                    if (abandoned) {
+                        throw new IOException("Request body no longer read.");
+                    }
+                    var count = Math.min(len, buffer.length - size);
+                    var tail = (head + size) % buffer.length;
+                    var first = Math.min(count, buffer.length - tail);
+                    System.arraycopy(b, off, buffer, tail, first);
+                    System.arraycopy(b, off + first, buffer, 0, count - first);
+                    size += count;
+                    off += count;
+                    len -= count;
+                    readable.signal();
+                }
+            } catch (InterruptedException e) {
+                throw interrupted();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        @Override
+        public void close() {
+            lock.lock();
+            try {
+                complete = true;
+                readable.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    private final class Source extends InputStream {
+
+        @Override
+        public int read() throws IOException {
+            var b = new byte[1];
+            return this.read(b, 0, 1) == -1 ? -1 : b[0] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (len == 0) {
+                return 0;
+            }
+            lock.lock();
+            try {
+                while (size == 0 && !complete && failure == null) {
+                    readable.await();
+                }
+                if (failure != null) {
+                    throw new IOException("Failed to produce the request body.", failure);
+                }
+                if (size == 0) {
+                    return -1;
+                }
+                var count = Math.min(len, size);
+                var first = Math.min(count, buffer.length - head);
+                System.arraycopy(buffer, head, b, off, first);
+                System.arraycopy(buffer, 0, b, off + first, count - first);
+                head = (head + count) % buffer.length;
+                size -= count;
+                writable.signal();
+                return count;
+            } catch (InterruptedException e) {
+                throw interrupted();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        @Override
+        public void close() {
+            lock.lock();
+            try {
+                abandoned = true;
+                writable.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * This file is part of the Yildiz-Engine project, licenced under the MIT License  (MIT)
+ *  Copyright (c) 2026 Grégory Van den Borre
+ *  More infos available: https://engine.yildiz-games.be
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ *  documentation files (the "Software"), to deal in the Software without restriction, including without limitation
+ *  the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ *  permit persons to whom the Software is furnished to do so, subject to the following conditions: The above copyright
+ *  notice and this permission notice shall be included in all copies or substantial portions of the  Software.
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ *  WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS
+ *  OR COPYRIGHT  HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ *  OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package be.yildizgames.module.http.java;
+
+import java.io.IOException;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow;
+
+/**
+ * Copy a response body into a caller buffer as it is received, and report the progress of the transfer.
+ * The received buffers are put directly in the target, without intermediate array.
+ * The body is written from the given start position, so a retried request overwrites the bytes of the failed attempt.
+ *
+ * @author Grégory Van den Borre
+ */
+final class ByteBufferBodySubscriber implements HttpResponse.BodySubscriber<ByteBuffer> {
+
+    private final CompletableFuture<ByteBuffer> result = new CompletableFuture<>();
+
+    private final ByteBuffer target;
+
+    /**
+     * Position of the target when the call was made.
+     */
+    private final int start;
+
+    private final ProgressDispatcher.Transfer transfer;
+
+    private Flow.Subscription subscription;
+
+    ByteBufferBodySubscriber(ByteBuffer target, int start, ProgressDispatcher.Transfer transfer) {
+        super();
+        this.target = target;
+        this.start = start;
+        this.transfer = transfer;
+    }
+
+    @Override
+    public final CompletionStage<ByteBuffer> getBody() {
+        return this.result;
+    }
+
+    @Override
+    public final void onSubscribe(Flow.Subscription subscription) {
+        this.subscription = subscription;
+        this.target.position(this.start);
+        subscription.request(1);
+    }
+
+    @Override
+    public final void onNext(List<ByteBuffer> item) {
+        if (this.result.isDone()) {
+            return;
+        }
+        long received = 0;
+        for (var buffer : item) {
+            if (buffer.remaining() > this.target.remaining()) {
+                this.subscription.cancel();
+                this.transfer.complete();
+                this.result.completeExceptionally(new IOException("Response body larger than the target buffer."));
+                return;
+            }
+            received += buffer.remaining();
+            this.target.put(buffer);
+        }
+        this.transfer.next(this.subscription, received);
+    }
+
+    @Override
+    public final void onError(Throwable throwable) {
+        this.transfer.complete();
+        this.result.completeExceptionally(throwable);
+    }
+
+    /**
+     * The body is provided once the last progress is delivered.
+     */
+    @Override
+    public final void onComplete() {
+        this.transfer.complete().whenComplete((v, e) -> {
+            if (e == null) {
+                this.result.complete(this.target);
+            } else {
+                this.result.completeExceptionally(e);
+            }
+        });
+    }
+}
@@ -0,0 +1,280 @@
+/*
+ * This file is part of the Yildiz-Engine project, licenced under the MIT License  (MIT)
+ *  Copyright (c) 2026 Grégory Van den Borre
+ *  More infos available: https://engine.yildiz-games.be
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ *  documentation files (the "Software"), to deal in the Software without restriction, including without limitation
+ *  the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ *  permit persons to whom the Software is furnished to do so, subject to the following conditions: The above copyright
+ *  notice and this permission notice shall be included in all copies or substantial portions of the  Software.
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ *  WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS
+ *  OR COPYRIGHT  HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ *  OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package be.yildizgames.module.http.java;
+
+import be.yildizgames.module.http.ContentEncoding;
+import be.yildizgames.module.http.HttpClientConfiguration;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PushbackInputStream;
+import java.io.UncheckedIOException;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Flow;
+
+/**
+ * Negotiate the compression of the bodies.
+ * The handlers provided here advertise the available encodings and decompress the responses while they are read,
+ * the file, buffer and publisher transfers keep the bytes as sent by the server.
+ *
+ * @author Grégory Van den Borre
+ */
+final class Compression {
+
+    private static final String CONTENT_ENCODING = "Content-Encoding";
+
+    private final Map<String, ContentEncoding> encodings = new LinkedHashMap<>();
+
+    /**
+     * Accept-Encoding header value, null when the responses are not compressed.
+     */
+    private final String accept;
+
+    /**
+     * Encoding of the request bodies, null when they are not compressed.
+     */
+    private final ContentEncoding request;
+
+    /**
+     * @throws IllegalArgumentException If the request compression is not an available encoding.
+     */
+    Compression(HttpClientConfiguration configuration) {
+        super();
+        ContentEncoding.provide().forEach(e -> this.encodings.put(e.name().toLowerCase(Locale.ROOT), e));
+        this.accept = configuration.responseCompression() ? String.join(", ", this.encodings.keySet()) : null;
+        var name = configuration.requestCompression();
+        this.request = name.isEmpty() ? null : this.encodings.get(name.toLowerCase(Locale.ROOT));
+        if (!name.isEmpty() && this.request == null) {
+            throw new IllegalArgumentException("Unknown content encoding " + name);
+        }
+    }
+
+    final HttpResponse.BodyHandler<String> ofString() {
+        if (this.accept == null) {
+            return HttpResponse.BodyHandlers.ofString();
+        }
+        return new DecodingHandler<>(info -> HttpResponse.BodySubscribers.mapping(HttpResponse.BodySubscribers.ofByteArray(),
+                b -> new String(this.decode(info.headers(), b), JavaHttpCaller.charset(info.headers()))));
+    }
+
+    final HttpResponse.BodyHandler<byte[]> ofByteArray() {
+        if (this.accept == null) {
+            return HttpResponse.BodyHandlers.ofByteArray();
+        }
+        return new DecodingHandler<>(info -> HttpResponse.BodySubscribers.mapping(HttpResponse.BodySubscribers.ofByteArray(),
+                b -> this.decode(info.headers(), b)));
+    }
+
+    /**
+     * The decompression only starts on the first read, the stream is provided as soon as the headers are received.
+     */
+    final HttpResponse.BodyHandler<InputStream> ofInputStream() {
+        if (this.accept == null) {
+            return HttpResponse.BodyHandlers.ofInputStream();
+        }
+        return new DecodingHandler<>(info -> HttpResponse.BodySubscribers.mapping(HttpResponse.BodySubscribers.ofInputStream(),
+                in -> new LazyInputStream(in, s -> this.decoder(info.headers(), s))));
+    }
+
+    /**
+     * Add the Accept-Encoding header for the handlers decompressing the response.
+     */
+    final HttpRequest.Builder accept(HttpRequest.Builder request, HttpResponse.BodyHandler<?> handler) {
+        if (handler instanceof DecodingHandler<?>) {
+            request.header("Accept-Encoding", this.accept);
+        }
+        return request;
+    }
+
+    /**
+     * Compress a request body with the configured encoding, adding the Content-Encoding header.
+     */
+    final HttpRequest.BodyPublisher compress(HttpRequest.Builder request, HttpRequest.BodyPublisher body) {
+        if (this.request == null) {
+            return body;
+        }
+        request.header(CONTENT_ENCODING, this.request.name());
+        return BodyPipe.publisher(out -> this.pump(body, out));
+    }
+
+    /**
+     * Write the compressed body in the pipe.
+     *
+     * @throws IOException If the body cannot be read or compressed, aborting the request.
+     */
+    private void pump(HttpRequest.BodyPublisher body, OutputStream pipe) throws IOException {
+        var encoded = this.request.encode(pipe);
+        var done = new CompletableFuture<Void>();
+        body.subscribe(new Flow.Subscriber<>() {
+
+            private Flow.Subscription subscription;
+
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                this.subscription = subscription;
+                subscription.request(1);
+            }
+
+            @Override
+            public void onNext(ByteBuffer item) {
+                try {
+                    var chunk = new byte[item.remaining()];
+                    item.get(chunk);
+                    encoded.write(chunk);
+                    this.subscription.request(1);
+                } catch (IOException e) {
+                    this.subscription.cancel();
+                    done.completeExceptionally(e);
+                }
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                done.completeExceptionally(throwable);
+            }
+
+            @Override
+            public void onComplete() {
+                done.complete(null);
+            }
+        });
+        try {
+            done.join();
+        } catch (CompletionException e) {
+            throw new IOException("Cannot compress the request body.", e.getCause());
+        }
+        encoded.close();
+    }
+
+    private byte[] decode(HttpHeaders headers, byte[] body) {
+        if (body.length == 0) {
+            return body;
+        }
+        try (var in = this.decoder(headers, new ByteArrayInputStream(body))) {
+            return in.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Wrap a body with the decoders of its encodings, applied in the reverse order of the Content-Encoding header.
+     *
+     * @throws IOException If an encoding is not available.
+     */
+    private InputStream decoder(HttpHeaders headers, InputStream body) throws IOException {
+        var result = body;
+        var values = headers.allValues(CONTENT_ENCODING);
+        for (int i = values.size() - 1; i >= 0; i--) {
+            var names = values.get(i).split(",");
+            for (int j = names.length - 1; j >= 0; j--) {
+                var name = names[j].trim().toLowerCase(Locale.ROOT);
+                if (!name.isEmpty() && !"identity".equals(name)) {
+                    var encoding = this.encodings.get(name);
+                    if (encoding == null) {
+                        throw new IOException("Unsupported content encoding " + name);
+                    }
+                    result = encoding.decode(result);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Handler decompressing the response, the request advertises the available encodings when it is used.
+     */
+    private record DecodingHandler<T>(HttpResponse.BodyHandler<T> handler) implements HttpResponse.BodyHandler<T> {
+
+        @Override
+        public HttpResponse.BodySubscriber<T> apply(HttpResponse.ResponseInfo responseInfo) {
+            return this.handler.apply(responseInfo);
+        }
+    }
+
+    /**
+     * Stream creating its decoder on the first access, since a decoder can read the body header when created.
+     * An empty body, as for a 204, a 304 or a HEAD response, is not decoded since it has no encoding header to read.
+     */
+    private static final class LazyInputStream extends InputStream {
+
+        private final InputStream raw;
+
+        private final Decoder decoder;
+
+        private InputStream decoded;
+
+        private LazyInputStream(InputStream raw, Decoder decoder) {
+            super();
+            this.raw = raw;
+            this.decoder = decoder;
+        }
+
+        @Override
+        public int read() throws IOException {
+            return this.decoded().read();
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            return this.decoded().read(b, off, len);
+        }
+
+        @Override
+        public int available() throws IOException {
+            return this.decoded().available();
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (this.decoded == null) {
+                this.raw.close();
+            } else {
+                this.decoded.close();
+            }
+        }
+
+        private InputStream decoded() throws IOException {
+            if (this.decoded == null) {
+                var body = new PushbackInputStream(this.raw, 1);
+                var first = body.read();
+                if (first == -1) {
+                    this.decoded = body;
+                } else {
+                    body.unread(first);
+                    this.decoded = this.decoder.apply(body);
+                }
+            }
+            return this.decoded;
+        }
+    }
+
+    @FunctionalInterface
+    private interface Decoder {
+
+        InputStream apply(InputStream raw) throws IOException;
+    }
+}
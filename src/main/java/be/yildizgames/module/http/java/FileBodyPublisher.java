@@ -0,0 +1,189 @@
+/*
+ * This file is part of the Yildiz-Engine project, licenced under the MIT License  (MIT)
+ *  Copyright (c) 2026 Grégory Van den Borre
+ *  More infos available: https://engine.yildiz-games.be
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ *  documentation files (the "Software"), to deal in the Software without restriction, including without limitation
+ *  the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ *  permit persons to whom the Software is furnished to do so, subject to the following conditions: The above copyright
+ *  notice and this permission notice shall be included in all copies or substantial portions of the  Software.
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ *  WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS
+ *  OR COPYRIGHT  HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ *  OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package be.yildizgames.module.http.java;
+
+import be.yildizgames.module.http.TransferProgress;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Stream a file as request body, chunks are only read from the disk when requested by the client, so a single chunk is in memory at a time.
+ * The file length is provided upfront, unless chunked transfer encoding is used.
+ * Every subscription reads the file from the beginning, the client may subscribe again when a request is retried.
+ *
+ * @author Grégory Van den Borre
+ */
+final class FileBodyPublisher implements HttpRequest.BodyPublisher {
+
+    private static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+
+    private final URI uri;
+
+    private final Path file;
+
+    private final long size;
+
+    private final int bufferSize;
+
+    private final boolean chunked;
+
+    private final ProgressDispatcher progress;
+
+    /**
+     * @throws IOException If the file cannot be read.
+     */
+    FileBodyPublisher(URI uri, Path file, int bufferSize, boolean chunked, ProgressDispatcher progress) throws IOException {
+        super();
+        this.uri = uri;
+        this.file = file;
+        this.size = Files.size(file);
+        this.bufferSize = bufferSize == 0 ? DEFAULT_BUFFER_SIZE : bufferSize;
+        this.chunked = chunked;
+        this.progress = progress;
+    }
+
+    @Override
+    public final long contentLength() {
+        return this.chunked ? -1 : this.size;
+    }
+
+    @Override
+    public final void subscribe(Flow.Subscriber<? super ByteBuffer> subscriber) {
+        subscriber.onSubscribe(new FileSubscription(subscriber));
+    }
+
+    private final class FileSubscription implements Flow.Subscription {
+
+        private final Flow.Subscriber<? super ByteBuffer> subscriber;
+
+        private final AtomicLong demand = new AtomicLong();
+
+        /**
+         * Prevent concurrent or reentrant draining, a request made while draining is served by the running loop.
+         */
+        private final AtomicInteger work = new AtomicInteger();
+
+        private final ProgressDispatcher.Transfer transfer = progress.start(uri, TransferProgress.Direction.SENT, size);
+
+        private FileChannel channel;
+
+        private long total;
+
+        private volatile boolean done;
+
+        /**
+         * True while the upload is paused by the bandwidth limits.
+         */
+        private volatile boolean paused;
+
+        private FileSubscription(Flow.Subscriber<? super ByteBuffer> subscriber) {
+            super();
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                this.cancel();
+                this.subscriber.onError(new IllegalArgumentException("Requested " + n + " chunks"));
+                return;
+            }
+            this.demand.accumulateAndGet(n, (a, b) -> a + b < 0 ? Long.MAX_VALUE : a + b);
+            this.drain();
+        }
+
+        @Override
+        public void cancel() {
+            this.done = true;
+            this.drain();
+        }
+
+        private void drain() {
+            if (this.work.getAndIncrement() != 0) {
+                return;
+            }
+            int missed = 1;
+            do {
+                try {
+                    this.emit();
+                } catch (IOException e) {
+                    this.done = true;
+                    this.subscriber.onError(e);
+                }
+                if (this.done) {
+                    this.close();
+                    this.transfer.complete();
+                }
+                missed = this.work.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void emit() throws IOException {
+            while (!this.done && this.demand.get() > 0 && !this.paused) {
+                if (this.channel == null) {
+                    this.channel = FileChannel.open(file, StandardOpenOption.READ);
+                }
+                var remaining = chunked ? bufferSize : Math.min(bufferSize, size - this.total);
+                var read = remaining == 0 ? -1 : 0;
+                var buffer = ByteBuffer.allocate((int) remaining);
+                if (remaining > 0) {
+                    read = this.channel.read(buffer);
+                }
+                if (read < 0) {
+                    this.done = true;
+                    this.transfer.complete().whenComplete((v, e) -> this.subscriber.onComplete());
+                    return;
+                }
+                this.total += read;
+                this.demand.decrementAndGet();
+                var pause = this.transfer.update(read);
+                if (pause > 0) {
+                    this.paused = true;
+                    CompletableFuture.delayedExecutor(pause, TimeUnit.NANOSECONDS).execute(this::resume);
+                }
+                this.subscriber.onNext(buffer.flip());
+            }
+        }
+
+        private void resume() {
+            this.paused = false;
+            this.drain();
+        }
+
+        private void close() {
+            if (this.channel != null) {
+                try {
+                    this.channel.close();
+                } catch (IOException e) {
+                    // nothing left to read, the upload outcome is not affected.
+                }
+                this.channel = null;
+            }
+        }
+    }
+}
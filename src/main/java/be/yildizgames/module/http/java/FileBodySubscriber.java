@@ -0,0 +1,122 @@
+/*
+ * This file is part of the Yildiz-Engine project, licenced under the MIT License  (MIT)
+ *  Copyright (c) 2026 Grégory Van den Borre
+ *  More infos available: https://engine.yildiz-games.be
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ *  documentation files (the "Software"), to deal in the Software without restriction, including without limitation
+ *  the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ *  permit persons to whom the Software is furnished to do so, subject to the following conditions: The above copyright
+ *  notice and this permission notice shall be included in all copies or substantial portions of the  Software.
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ *  WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS
+ *  OR COPYRIGHT  HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ *  OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package be.yildizgames.module.http.java;
+
+import java.io.IOException;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow;
+
+/**
+ * Write a response body in a file as it is received, and report the progress of the transfer.
+ *
+ * @author Grégory Van den Borre
+ */
+final class FileBodySubscriber implements HttpResponse.BodySubscriber<Path> {
+
+    private final CompletableFuture<Path> result = new CompletableFuture<>();
+
+    private final Path destination;
+
+    private final ProgressDispatcher.Transfer transfer;
+
+    private FileChannel channel;
+
+    private Flow.Subscription subscription;
+
+    FileBodySubscriber(Path destination, ProgressDispatcher.Transfer transfer) {
+        super();
+        this.destination = destination;
+        this.transfer = transfer;
+    }
+
+    @Override
+    public final CompletionStage<Path> getBody() {
+        return this.result;
+    }
+
+    @Override
+    public final void onSubscribe(Flow.Subscription subscription) {
+        this.subscription = subscription;
+        try {
+            this.channel = FileChannel.open(this.destination, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+            subscription.request(1);
+        } catch (IOException e) {
+            subscription.cancel();
+            this.transfer.complete();
+            this.result.completeExceptionally(e);
+        }
+    }
+
+    @Override
+    public final void onNext(List<ByteBuffer> item) {
+        try {
+            long received = 0;
+            for (var buffer : item) {
+                while (buffer.hasRemaining()) {
+                    received += this.channel.write(buffer);
+                }
+            }
+            this.transfer.next(this.subscription, received);
+        } catch (IOException e) {
+            this.subscription.cancel();
+            this.close();
+            this.transfer.complete();
+            this.result.completeExceptionally(e);
+        }
+    }
+
+    @Override
+    public final void onError(Throwable throwable) {
+        this.close();
+        this.transfer.complete();
+        this.result.completeExceptionally(throwable);
+    }
+
+    /**
+     * The body is provided once the last progress is delivered.
+     */
+    @Override
+    public final void onComplete() {
+        try {
+            this.channel.close();
+            this.transfer.complete().whenComplete((v, e) -> {
+                if (e == null) {
+                    this.result.complete(this.destination);
+                } else {
+                    this.result.completeExceptionally(e);
+                }
+            });
+        } catch (IOException e) {
+            this.transfer.complete();
+            this.result.completeExceptionally(e);
+        }
+    }
+
+    private void close() {
+        try {
+            this.channel.close();
+        } catch (IOException e) {
+            // the original failure is reported, this one would only hide it.
+        }
+    }
+}
@@ -0,0 +1,289 @@
+/*
+ * This file is part of the Yildiz-Engine project, licenced under the MIT License  (MIT)
+ *  Copyright (c) 2026 Grégory Van den Borre
+ *  More infos available: https://engine.yildiz-games.be
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ *  documentation files (the "Software"), to deal in the Software without restriction, including without limitation
+ *  the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ *  permit persons to whom the Software is furnished to do so, subject to the following conditions: The above copyright
+ *  notice and this permission notice shall be included in all copies or substantial portions of the  Software.
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ *  WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS
+ *  OR COPYRIGHT  HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ *  OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package be.yildizgames.module.http.java;
+
+import be.yildizgames.module.http.HttpClientMetrics;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Limit the number of requests in flight for every host, without blocking any thread while waiting for a permit.
+ * The connection limit applies to a host until it answers with HTTP/2, the stream limit applies from then on,
+ * a single connection being multiplexed. A permit is held until the response body is fully received, or its stream is closed,
+ * so the streamed responses count as long as they are read.
+ * A released permit is directly handed over to the oldest waiting interactive request, or to the oldest bulk transfer if none is waiting.
+ *
+ * @author Grégory Van den Borre
+ */
+final class HostPermits {
+
+    private static final CompletableFuture<Void> GRANTED = CompletableFuture.completedFuture(null);
+
+    private final int maxConnections;
+
+    private final int maxStreams;
+
+    private final Map<String, Host> hosts = new ConcurrentHashMap<>();
+
+    private final HttpClientMetrics metrics;
+
+    /**
+     * @param maxConnections Maximum number of requests in flight per HTTP/1.1 host, 0 for no limit.
+     * @param maxStreams     Maximum number of requests in flight per HTTP/2 host, 0 for no limit.
+     * @param metrics        Metrics notified of the usage of every host.
+     */
+    HostPermits(int maxConnections, int maxStreams, HttpClientMetrics metrics) {
+        super();
+        this.maxConnections = maxConnections;
+        this.maxStreams = maxStreams;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Provide a permit for a host, to be acquired before sending the request.
+     *
+     * @param uri URI to call.
+     * @return The permit, not acquired yet.
+     */
+    final Permit permit(URI uri) {
+        if (this.maxConnections == 0 && this.maxStreams == 0) {
+            return new Permit(null);
+        }
+        return new Permit(this.hosts.computeIfAbsent(key(uri), Host::new));
+    }
+
+    static String key(URI uri) {
+        return uri.getScheme() + "://" + uri.getHost() + ":" + uri.getPort();
+    }
+
+    private static int limit(int max) {
+        return max == 0 ? Integer.MAX_VALUE : max;
+    }
+
+    /**
+     * Permit for a single request, released once, when the body is received, when its stream is closed, or when the request fails.
+     */
+    final class Permit {
+
+        private final Host host;
+
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private volatile CompletableFuture<Void> waiting = GRANTED;
+
+        private Permit(Host host) {
+            super();
+            this.host = host;
+        }
+
+        /**
+         * @param priority Priority of the request.
+         * @return A future completed once the permit is granted.
+         */
+        final CompletableFuture<Void> acquire(Priority priority) {
+            if (this.host != null) {
+                this.waiting = this.host.acquire(priority);
+            }
+            return this.waiting;
+        }
+
+        /**
+         * Wrap a handler to release the permit when the body is complete, failed, or cancelled by closing its stream.
+         */
+        final <T> HttpResponse.BodyHandler<T> handler(HttpResponse.BodyHandler<T> handler) {
+            return info -> {
+                if (this.host != null) {
+                    this.host.negotiated(info.version());
+                }
+                return new ReleasingSubscriber<>(handler.apply(info), this);
+            };
+        }
+
+        /**
+         * Release the permit, or withdraw the request if the permit was not granted yet.
+         */
+        final void release() {
+            if (this.host == null || !this.released.compareAndSet(false, true)) {
+                return;
+            }
+            if (!this.waiting.cancel(false)) {
+                this.host.release();
+            }
+        }
+    }
+
+    private final class Host {
+
+        private final String name;
+
+        private final Queue<CompletableFuture<Void>> interactive = new ArrayDeque<>();
+
+        private final Queue<CompletableFuture<Void>> bulk = new ArrayDeque<>();
+
+        private int max = limit(maxConnections);
+
+        private int inFlight;
+
+        private Host(String name) {
+            super();
+            this.name = name;
+        }
+
+        private CompletableFuture<Void> acquire(Priority priority) {
+            CompletableFuture<Void> permit;
+            int inFlightNow;
+            int waitingNow;
+            int maxNow;
+            synchronized (this) {
+                if (this.inFlight < this.max) {
+                    this.inFlight++;
+                    permit = GRANTED;
+                } else {
+                    permit = new CompletableFuture<>();
+                    (priority == Priority.INTERACTIVE ? this.interactive : this.bulk).add(permit);
+                }
+                inFlightNow = this.inFlight;
+                waitingNow = this.interactive.size() + this.bulk.size();
+                maxNow = this.max;
+            }
+            metrics.poolUsage(this.name, inFlightNow, waitingNow, maxNow == Integer.MAX_VALUE ? 0 : maxNow);
+            return permit;
+        }
+
+        /**
+         * Apply the limit of the protocol the host answered with, granting the waiting requests if it is higher.
+         */
+        private void negotiated(HttpClient.Version version) {
+            var limit = limit(version == HttpClient.Version.HTTP_2 ? maxStreams : maxConnections);
+            synchronized (this) {
+                if (this.max == limit) {
+                    return;
+                }
+                this.max = limit;
+            }
+            this.grant();
+        }
+
+        private void release() {
+            synchronized (this) {
+                this.inFlight--;
+            }
+            this.grant();
+        }
+
+        /**
+         * Hand the free permits over to the waiting requests, skipping the ones withdrawn meanwhile.
+         */
+        private void grant() {
+            while (true) {
+                CompletableFuture<Void> next;
+                int inFlightNow;
+                int waitingNow;
+                int maxNow;
+                synchronized (this) {
+                    next = this.inFlight < this.max ? this.interactive.poll() : null;
+                    if (next == null && this.inFlight < this.max) {
+                        next = this.bulk.poll();
+                    }
+                    if (next != null) {
+                        this.inFlight++;
+                    }
+                    inFlightNow = this.inFlight;
+                    waitingNow = this.interactive.size() + this.bulk.size();
+                    maxNow = this.max;
+                }
+                metrics.poolUsage(this.name, inFlightNow, waitingNow, maxNow == Integer.MAX_VALUE ? 0 : maxNow);
+                if (next == null) {
+                    return;
+                }
+                if (!next.complete(null)) {
+                    synchronized (this) {
+                        this.inFlight--;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Subscriber releasing the permit when the body is complete, failed, or when its subscription is cancelled.
+     */
+    private record ReleasingSubscriber<T>(HttpResponse.BodySubscriber<T> subscriber, Permit permit) implements HttpResponse.BodySubscriber<T> {
+
+        @Override
+        public CompletionStage<T> getBody() {
+            return this.subscriber.getBody();
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscriber.onSubscribe(new Flow.Subscription() {
+                @Override
+                public void request(long n) {
+                    subscription.request(n);
+                }
+
+                @Override
+                public void cancel() {
+                    permit.release();
+                    subscription.cancel();
+                }
+            });
+        }
+
+        @Override
+        public void onNext(List<ByteBuffer> item) {
+            this.subscriber.onNext(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            this.permit.release();
+            this.subscriber.onError(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            this.permit.release();
+            this.subscriber.onComplete();
+        }
+    }
+
+    enum Priority {
+
+        /**
+         * Small latency sensitive request, served first.
+         */
+        INTERACTIVE,
+
+        /**
+         * Large transfer, only served when no interactive request is waiting.
+         */
+        BULK
+    }
+}
@@ -0,0 +1,195 @@
+/*
+ * This file is part of the Yildiz-Engine project, licenced under the MIT License  (MIT)
+ *  Copyright (c) 2026 Grégory Van den Borre
+ *  More infos available: https://engine.yildiz-games.be
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ *  documentation files (the "Software"), to deal in the Software without restriction, including without limitation
+ *  the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ *  permit persons to whom the Software is furnished to do so, subject to the following conditions: The above copyright
+ *  notice and this permission notice shall be included in all copies or substantial portions of the  Software.
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ *  WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS
+ *  OR COPYRIGHT  HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ *  OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package be.yildizgames.module.http.java;
+
+import be.yildizgames.module.http.AsyncHttpClient;
+import be.yildizgames.module.http.Headers;
+import be.yildizgames.module.http.HttpResponse;
+import be.yildizgames.module.http.HttpTransferListener;
+import be.yildizgames.module.http.TypeReference;
+
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Type;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+import java.util.function.Function;
+
+/**
+ * Non blocking client based on the java.net.http client.
+ *
+ * @author Grégory Van den Borre
+ */
+final class JavaAsyncHttpClient implements AsyncHttpClient {
+
+    private final JavaHttpCaller caller;
+
+    JavaAsyncHttpClient(JavaHttpCaller caller) {
+        super();
+        this.caller = caller;
+    }
+
+    @Override
+    public final CompletableFuture<HttpResponse<String>> getText(URI to) {
+        return call(() -> this.caller.get(to, this.caller.compression().ofString()), java.net.http.HttpResponse::body);
+    }
+
+    @Override
+    public final CompletableFuture<HttpResponse<String>> getText(String to) {
+        return call(() -> this.caller.get(URI.create(to), this.caller.compression().ofString()), java.net.http.HttpResponse::body);
+    }
+
+    @Override
+    public final <T> CompletableFuture<HttpResponse<T>> getObject(URI to, Class<T> clazz) {
+        return this.decode(() -> this.caller.get(to, this.caller.compression().ofInputStream()), clazz);
+    }
+
+    @Override
+    public final <T> CompletableFuture<HttpResponse<T>> getObject(String to, Class<T> clazz) {
+        return this.decode(() -> this.caller.get(URI.create(to), this.caller.compression().ofInputStream()), clazz);
+    }
+
+    @Override
+    public final <T> CompletableFuture<HttpResponse<T>> getObject(URI to, TypeReference<T> type) {
+        return this.decode(() -> this.caller.get(to, this.caller.compression().ofInputStream()), type.getType());
+    }
+
+    @Override
+    public final <T, R> CompletableFuture<HttpResponse<R>> postObject(String uri, T objectToPost, Class<R> responseClazz) {
+        return this.decode(() -> this.caller.post(
+                URI.create(uri),
+                this.caller.mapping().mediaType(),
+                this.caller.mapping().encode(objectToPost),
+                this.caller.compression().ofInputStream()), responseClazz);
+    }
+
+    @Override
+    public final CompletableFuture<HttpResponse<InputStream>> getInputStream(URI to) {
+        return call(() -> this.caller.get(to, this.caller.compression().ofInputStream()), java.net.http.HttpResponse::body);
+    }
+
+    @Override
+    public final CompletableFuture<HttpResponse<Reader>> getReader(URI to) {
+        return call(() -> this.caller.get(to, this.caller.compression().ofInputStream()),
+                r -> new InputStreamReader(r.body(), JavaHttpCaller.charset(r.headers())));
+    }
+
+    @Override
+    public final CompletableFuture<HttpResponse<String>> sendFile(URI to, Path file, String mime) {
+        return call(() -> this.caller.post(to, mime, this.caller.filePublisher(to, file), this.caller.compression().ofString()),
+                java.net.http.HttpResponse::body);
+    }
+
+    @Override
+    public final CompletableFuture<HttpResponse<Path>> receiveFile(URI to, Path destination) {
+        return call(() -> this.caller.receiveFile(to, destination), java.net.http.HttpResponse::body);
+    }
+
+    @Override
+    public final CompletableFuture<HttpResponse<Path>> receiveFile(URI to, Path destination, int segments) {
+        return call(() -> this.caller.receiveFile(to, destination, segments), java.net.http.HttpResponse::body);
+    }
+
+    @Override
+    public final CompletableFuture<HttpResponse<ByteBuffer>> receiveBuffer(URI to, ByteBuffer target) {
+        return call(() -> this.caller.receiveBuffer(to, target), java.net.http.HttpResponse::body);
+    }
+
+    @Override
+    public final CompletableFuture<HttpResponse<Flow.Publisher<List<ByteBuffer>>>> getPublisher(URI to) {
+        return call(() -> this.caller.get(to, java.net.http.HttpResponse.BodyHandlers.ofPublisher()), java.net.http.HttpResponse::body);
+    }
+
+    final CompletableFuture<HttpResponse<byte[]>> getBytes(URI to, Headers requestHeaders) {
+        return call(() -> this.caller.get(to, requestHeaders, this.caller.compression().ofByteArray()), java.net.http.HttpResponse::body);
+    }
+
+    final CompletableFuture<HttpResponse<Path>> receiveFile(URI to, Path destination, Headers requestHeaders) {
+        return call(() -> this.caller.receiveFile(to, destination, requestHeaders), java.net.http.HttpResponse::body);
+    }
+
+    @Override
+    public final void addTransferListener(HttpTransferListener l) {
+        this.caller.progress().add(l);
+    }
+
+    @Override
+    public final void addTransferListener(URI uri, HttpTransferListener l) {
+        this.caller.progress().add(uri, l);
+    }
+
+    @Override
+    public final void removeTransferListener(HttpTransferListener l) {
+        this.caller.progress().remove(l);
+    }
+
+    @Override
+    public final CompletableFuture<Void> warmUp(Collection<URI> uris) {
+        return this.caller.warmUp(uris);
+    }
+
+    @Override
+    public final void close() {
+        this.caller.close();
+    }
+
+    /**
+     * Send a request and convert its result, any failure, even while preparing the request, is provided as an error response.
+     */
+    private static <B, T> CompletableFuture<HttpResponse<T>> call(RequestSupplier<B> request, Function<java.net.http.HttpResponse<B>, T> body) {
+        return send(request).handle((r, e) -> response(r, e, body));
+    }
+
+    /**
+     * Send a request and map its body while it is received, on the executor of the client since reading the body blocks.
+     */
+    private <T> CompletableFuture<HttpResponse<T>> decode(RequestSupplier<InputStream> request, Type type) {
+        return send(request).handleAsync((r, e) -> response(r, e, b -> this.caller.mapping().decode(b, type)), this.caller.executor());
+    }
+
+    private static <B> CompletableFuture<java.net.http.HttpResponse<B>> send(RequestSupplier<B> request) {
+        try {
+            return request.call();
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private static <B, T> HttpResponse<T> response(java.net.http.HttpResponse<B> response, Throwable error, Function<java.net.http.HttpResponse<B>, T> body) {
+        if (error != null) {
+            return new HttpResponse<>(JavaHttpCaller.unwrap(error));
+        }
+        try {
+            return new HttpResponse<>(response.statusCode(), body.apply(response), JavaHttpCaller.headers(response.headers()));
+        } catch (UncheckedIOException e) {
+            return new HttpResponse<>(e.getCause());
+        } catch (RuntimeException e) {
+            return new HttpResponse<>(e);
+        }
+    }
+
+    @FunctionalInterface
+    private interface RequestSupplier<B> {
+        CompletableFuture<java.net.http.HttpResponse<B>> call() throws Exception;
+    }
+}
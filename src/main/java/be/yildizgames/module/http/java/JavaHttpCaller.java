@@ -0,0 +1,297 @@
+/*
+ * This file is part of the Yildiz-Engine project, licenced under the MIT License  (MIT)
+ *  Copyright (c) 2026 Grégory Van den Borre
+ *  More infos available: https://engine.yildiz-games.be
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ *  documentation files (the "Software"), to deal in the Software without restriction, including without limitation
+ *  the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ *  permit persons to whom the Software is furnished to do so, subject to the following conditions: The above copyright
+ *  notice and this permission notice shall be included in all copies or substantial portions of the  Software.
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ *  WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS
+ *  OR COPYRIGHT  HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ *  OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package be.yildizgames.module.http.java;
+
+import be.yildizgames.module.http.Headers;
+import be.yildizgames.module.http.HttpClientConfiguration;
+import be.yildizgames.module.http.HttpClientMetrics;
+import be.yildizgames.module.http.HttpCode;
+import be.yildizgames.module.http.TransferProgress;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Locale;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Send the requests with the java.net.http client, shared by the blocking and the non blocking clients.
+ * Every call is asynchronous, running on the executor of the underlying client.
+ *
+ * @author Grégory Van den Borre
+ */
+final class JavaHttpCaller {
+
+    private static final String CONTENT_TYPE = "Content-Type";
+
+    private static final String CHARSET = "charset=";
+
+    /**
+     * Marks an attempt cancelled before its exchange was sent.
+     */
+    private static final CompletableFuture<?> CANCELLED = CompletableFuture.failedFuture(new CancellationException());
+
+    private final HttpClient client;
+
+    private final Duration timeout;
+
+    private final HostPermits permits;
+
+    private final HttpClientConfiguration configuration;
+
+    private final ObjectMapping mapping;
+
+    private final HttpClientMetrics metrics;
+
+    private final Resilience resilience;
+
+    private final Compression compression;
+
+    private final ProgressDispatcher progress;
+
+    private final Executor executor;
+
+    /**
+     * @param executor Executor running the blocking work of the calls, such as mapping the objects while their body is read.
+     */
+    JavaHttpCaller(HttpClient client, HttpClientConfiguration configuration, ObjectMapping mapping, HttpClientMetrics metrics, Resilience resilience,
+                   ProgressDispatcher progress, Executor executor) {
+        super();
+        this.client = client;
+        this.executor = executor;
+        this.mapping = mapping;
+        this.configuration = configuration;
+        this.metrics = metrics;
+        this.resilience = resilience;
+        this.compression = new Compression(configuration);
+        this.progress = progress;
+        this.timeout = configuration.readTimeout();
+        this.permits = new HostPermits(configuration.maxConnectionsPerHost(),
+                configuration.preferHttp2() ? configuration.maxConcurrentStreams() : configuration.maxConnectionsPerHost(), metrics);
+    }
+
+    final <T> CompletableFuture<HttpResponse<T>> get(URI uri, HttpResponse.BodyHandler<T> handler) {
+        return this.send(this.compression.accept(this.request(uri), handler).GET().build(), handler);
+    }
+
+    final <T> CompletableFuture<HttpResponse<T>> get(URI uri, Headers headers, HttpResponse.BodyHandler<T> handler) {
+        return this.send(this.compression.accept(this.request(uri, headers), handler).GET().build(), handler);
+    }
+
+    /**
+     * Post a body, compressed if configured.
+     */
+    final <T> CompletableFuture<HttpResponse<T>> post(URI uri, String mime, HttpRequest.BodyPublisher body, HttpResponse.BodyHandler<T> handler) {
+        var request = this.compression.accept(this.request(uri), handler).header(CONTENT_TYPE, mime);
+        var priority = body instanceof FileBodyPublisher ? HostPermits.Priority.BULK : HostPermits.Priority.INTERACTIVE;
+        return this.send(request.POST(this.compression.compress(request, body)).build(), handler, Resilience.Replay.ANY, priority);
+    }
+
+    final CompletableFuture<HttpResponse<Path>> receiveFile(URI uri, Path destination) {
+        return this.receiveFile(uri, destination, Headers.empty());
+    }
+
+    /**
+     * Download a file, it is only written if the response is successful.
+     */
+    final CompletableFuture<HttpResponse<Path>> receiveFile(URI uri, Path destination, Headers headers) {
+        return this.send(this.request(uri, headers).GET().build(), info -> HttpCode.isSuccessful(info.statusCode())
+                ? new FileBodySubscriber(destination, this.progress.start(uri, TransferProgress.Direction.RECEIVED, contentLength(info)))
+                : HttpResponse.BodySubscribers.replacing(destination), Resilience.Replay.SEQUENTIAL, HostPermits.Priority.BULK);
+    }
+
+    /**
+     * Receive a body in a buffer, it is only written if the response is successful.
+     */
+    final CompletableFuture<HttpResponse<ByteBuffer>> receiveBuffer(URI uri, ByteBuffer target) {
+        var start = target.position();
+        return this.send(this.request(uri).GET().build(), info -> HttpCode.isSuccessful(info.statusCode())
+                ? new ByteBufferBodySubscriber(target, start, this.progress.start(uri, TransferProgress.Direction.RECEIVED, contentLength(info)))
+                : HttpResponse.BodySubscribers.replacing(target), Resilience.Replay.SEQUENTIAL, HostPermits.Priority.BULK);
+    }
+
+    /**
+     * Provide a request body streaming the file content.
+     *
+     * @throws IOException If the file cannot be read.
+     */
+    final HttpRequest.BodyPublisher filePublisher(URI uri, Path file) throws IOException {
+        return new FileBodyPublisher(uri, file, this.configuration.uploadBufferSize(), this.configuration.chunkedUpload(), this.progress);
+    }
+
+    /**
+     * Download a file in several segments fetched in parallel, or as a single stream when the server does not support ranges.
+     */
+    final CompletableFuture<HttpResponse<Path>> receiveFile(URI uri, Path destination, int segments) {
+        return new SegmentedDownload(this, uri, destination, segments).start();
+    }
+
+    /**
+     * Open a connection to every distinct origin with a HEAD request to its root, the connection is then kept in the pool of the client.
+     * The requests bypass the host permits, the resilience policies and the metrics, their failures are ignored.
+     */
+    final CompletableFuture<Void> warmUp(Collection<URI> uris) {
+        return CompletableFuture.allOf(uris.stream()
+                .filter(u -> u.getHost() != null && ("http".equalsIgnoreCase(u.getScheme()) || "https".equalsIgnoreCase(u.getScheme())))
+                .map(u -> u.resolve("/"))
+                .distinct()
+                .map(origin -> this.client.sendAsync(this.request(origin).method("HEAD", HttpRequest.BodyPublishers.noBody()).build(),
+                        HttpResponse.BodyHandlers.discarding()).handle((r, e) -> null))
+                .toArray(CompletableFuture[]::new));
+    }
+
+    /**
+     * Stop accepting requests, the connections are released once the calls in flight are completed, without waiting for them.
+     */
+    final void close() {
+        this.client.shutdown();
+    }
+
+    final Compression compression() {
+        return this.compression;
+    }
+
+    final ObjectMapping mapping() {
+        return this.mapping;
+    }
+
+    final ProgressDispatcher progress() {
+        return this.progress;
+    }
+
+    final Executor executor() {
+        return this.executor;
+    }
+
+    final <T> CompletableFuture<HttpResponse<T>> send(HttpRequest request, HttpResponse.BodyHandler<T> handler) {
+        return this.send(request, handler, Resilience.Replay.ANY);
+    }
+
+    final <T> CompletableFuture<HttpResponse<T>> send(HttpRequest request, HttpResponse.BodyHandler<T> handler, Resilience.Replay replay) {
+        return this.send(request, handler, replay, HostPermits.Priority.INTERACTIVE);
+    }
+
+    /**
+     * Send a request with the resilience policies.
+     *
+     * @param replay   How the request can be sent again by the policies.
+     * @param priority Priority to get a permit for the host.
+     */
+    final <T> CompletableFuture<HttpResponse<T>> send(HttpRequest request, HttpResponse.BodyHandler<T> handler, Resilience.Replay replay,
+                                                      HostPermits.Priority priority) {
+        return this.resilience.send(request, replay, retries -> this.attempt(request, handler, priority, retries));
+    }
+
+    /**
+     * Send a request once a permit for its host is available, the permit is released when the response body is received or its stream closed.
+     * Cancelling the returned future withdraws the permit request, or aborts the exchange if already sent.
+     * The request is measured only when metrics are attached.
+     */
+    private <T> CompletableFuture<HttpResponse<T>> attempt(HttpRequest request, HttpResponse.BodyHandler<T> handler, HostPermits.Priority priority, int retries) {
+        var permit = this.permits.permit(request.uri());
+        var exchange = this.metrics == HttpClientMetrics.NONE ? null : new MeteredExchange(this.metrics, request, retries);
+        var sending = new AtomicReference<CompletableFuture<?>>();
+        var result = permit.acquire(priority)
+                .thenCompose(v -> {
+                    var call = exchange == null
+                            ? this.client.sendAsync(request, permit.handler(handler))
+                            : this.client.sendAsync(exchange.request(), permit.handler(exchange.handler(handler)));
+                    if (!sending.compareAndSet(null, call)) {
+                        call.cancel(true);
+                    }
+                    return call;
+                })
+                .whenComplete((r, e) -> {
+                    if (e != null) {
+                        permit.release();
+                        if (exchange != null) {
+                            exchange.report(unwrap(e));
+                        }
+                    }
+                });
+        // Cancelling a stage skips its own whenComplete action, the caller gets a copy so the permit is still released.
+        var cancellable = result.copy();
+        cancellable.whenComplete((r, e) -> {
+            if (cancellable.isCancelled()) {
+                var call = sending.getAndSet(CANCELLED);
+                if (call == null) {
+                    permit.release();
+                } else {
+                    call.cancel(true);
+                }
+            }
+        });
+        return cancellable;
+    }
+
+    final HttpRequest.Builder request(URI uri) {
+        var builder = HttpRequest.newBuilder(uri);
+        if (!this.timeout.isZero()) {
+            builder.timeout(this.timeout);
+        }
+        return builder;
+    }
+
+    private HttpRequest.Builder request(URI uri, Headers headers) {
+        var request = this.request(uri);
+        for (var header : headers.headers()) {
+            header.value().forEach(v -> request.header(header.key(), v));
+        }
+        return request;
+    }
+
+    static Headers headers(HttpHeaders headers) {
+        return Headers.of(headers.map());
+    }
+
+    /**
+     * @return The length of the response body, -1 if unknown.
+     */
+    static long contentLength(HttpResponse.ResponseInfo info) {
+        return info.headers().firstValueAsLong("Content-Length").orElse(-1);
+    }
+
+    static Charset charset(HttpHeaders headers) {
+        var contentType = headers.firstValue(CONTENT_TYPE).orElse("");
+        var index = contentType.toLowerCase(Locale.ROOT).indexOf(CHARSET);
+        if (index < 0) {
+            return StandardCharsets.UTF_8;
+        }
+        var name = contentType.substring(index + CHARSET.length()).split(";")[0].replace("\"", "").trim();
+        try {
+            return Charset.forName(name);
+        } catch (IllegalArgumentException e) {
+            return StandardCharsets.UTF_8;
+        }
+    }
+
+    static Throwable unwrap(Throwable t) {
+        return t instanceof CompletionException && t.getCause() != null ? t.getCause() : t;
+    }
+}
@@ -0,0 +1,218 @@
+/*
+ * This file is part of the Yildiz-Engine project, licenced under the MIT License  (MIT)
+ *  Copyright (c) 2026 Grégory Van den Borre
+ *  More infos available: https://engine.yildiz-games.be
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ *  documentation files (the "Software"), to deal in the Software without restriction, including without limitation
+ *  the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ *  permit persons to whom the Software is furnished to do so, subject to the following conditions: The above copyright
+ *  notice and this permission notice shall be included in all copies or substantial portions of the  Software.
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ *  WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS
+ *  OR COPYRIGHT  HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ *  OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package be.yildizgames.module.http.java;
+
+import be.yildizgames.module.http.Headers;
+import be.yildizgames.module.http.HttpClient;
+import be.yildizgames.module.http.HttpCode;
+import be.yildizgames.module.http.HttpResponse;
+import be.yildizgames.module.http.HttpTransferListener;
+import be.yildizgames.module.http.TypeReference;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.stream.Stream;
+
+/**
+ * Blocking client based on the java.net.http client.
+ * The calling thread only waits for the result, the call itself runs on the executor of the underlying client.
+ *
+ * @author Grégory Van den Borre
+ */
+final class JavaHttpClient implements HttpClient {
+
+    private final JavaHttpCaller caller;
+
+    private final JavaAsyncHttpClient async;
+
+    JavaHttpClient(JavaHttpCaller caller) {
+        super();
+        this.caller = caller;
+        this.async = new JavaAsyncHttpClient(caller);
+    }
+
+    @Override
+    public final String getText(URI to) {
+        return call(to, this.caller.get(to, this.caller.compression().ofString())).body();
+    }
+
+    @Override
+    public final String getText(String to) {
+        return this.getText(URI.create(to));
+    }
+
+    @Override
+    public final HttpResponse<String> getTextResponse(URI uri) {
+        return this.async.getText(uri).join();
+    }
+
+    @Override
+    public final HttpResponse<String> getTextResponse(String uri) {
+        return this.async.getText(uri).join();
+    }
+
+    @Override
+    public final <T, R> HttpResponse<R> postObject(String uri, T objectToPost, Class<R> responseClazz) {
+        return this.async.postObject(uri, objectToPost, responseClazz).join();
+    }
+
+    @Override
+    public final <T> T getObject(URI to, Class<T> clazz) {
+        try {
+            return this.caller.mapping().decode(call(to, this.caller.get(to, this.caller.compression().ofInputStream())), clazz);
+        } catch (UncheckedIOException e) {
+            throw new IllegalStateException("Error calling " + to, e.getCause());
+        }
+    }
+
+    @Override
+    public final <T> T getObject(String to, Class<T> clazz) {
+        return this.getObject(URI.create(to), clazz);
+    }
+
+    @Override
+    public final <T> Stream<T> getObjectStream(URI to, Class<T> clazz) {
+        return this.caller.mapping().decodeElements(call(to, this.caller.get(to, this.caller.compression().ofInputStream())), clazz);
+    }
+
+    @Override
+    public final <T> HttpResponse<T> getObjectResponse(URI to, TypeReference<T> type) {
+        return this.async.getObject(to, type).join();
+    }
+
+    @Override
+    public final HttpResponse<byte[]> getBytesResponse(URI to, Headers requestHeaders) {
+        return this.async.getBytes(to, requestHeaders).join();
+    }
+
+    @Override
+    public final InputStream getInputStream(URI to) {
+        return call(to, this.caller.get(to, this.caller.compression().ofInputStream())).body();
+    }
+
+    @Override
+    public final InputStream getInputStream(String to) {
+        return this.getInputStream(URI.create(to));
+    }
+
+    @Override
+    public final Reader getReader(URI to) {
+        var response = call(to, this.caller.get(to, this.caller.compression().ofInputStream()));
+        return new InputStreamReader(response.body(), JavaHttpCaller.charset(response.headers()));
+    }
+
+    @Override
+    public final Reader getReader(String to) {
+        return this.getReader(URI.create(to));
+    }
+
+    @Override
+    public final void sendFile(URI to, Path file, String mime) {
+        try {
+            call(to, this.caller.post(to, mime, this.caller.filePublisher(to, file), java.net.http.HttpResponse.BodyHandlers.discarding()));
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot read " + file, e);
+        }
+    }
+
+    @Override
+    public final HttpResponse<String> sendFileResponse(URI to, Path file, String mime) {
+        return this.async.sendFile(to, file, mime).join();
+    }
+
+    @Override
+    public final void receiveFile(URI to, Path destination) {
+        call(to, this.caller.receiveFile(to, destination));
+    }
+
+    @Override
+    public final HttpResponse<Path> receiveFileResponse(URI to, Path destination, Headers requestHeaders) {
+        return this.async.receiveFile(to, destination, requestHeaders).join();
+    }
+
+    @Override
+    public final void receiveFile(URI to, Path destination, int segments) {
+        call(to, this.caller.receiveFile(to, destination, segments));
+    }
+
+    @Override
+    public final void addTransferListener(HttpTransferListener l) {
+        this.caller.progress().add(l);
+    }
+
+    @Override
+    public final void addTransferListener(URI uri, HttpTransferListener l) {
+        this.caller.progress().add(uri, l);
+    }
+
+    @Override
+    public final void removeTransferListener(HttpTransferListener l) {
+        this.caller.progress().remove(l);
+    }
+
+    @Override
+    public final CompletableFuture<Void> warmUp(Collection<URI> uris) {
+        return this.caller.warmUp(uris);
+    }
+
+    @Override
+    public final void close() {
+        this.caller.close();
+    }
+
+    @Override
+    public final ByteBuffer receiveBuffer(URI to, ByteBuffer target) {
+        return call(to, this.caller.receiveBuffer(to, target)).body();
+    }
+
+    /**
+     * Wait for a call result.
+     *
+     * @throws IllegalStateException If the call failed or if the response has an error code.
+     */
+    private static <T> java.net.http.HttpResponse<T> call(URI uri, CompletableFuture<java.net.http.HttpResponse<T>> call) {
+        java.net.http.HttpResponse<T> response;
+        try {
+            response = call.join();
+        } catch (CompletionException e) {
+            throw new IllegalStateException("Error calling " + uri, JavaHttpCaller.unwrap(e));
+        }
+        if (HttpCode.isError(response.statusCode())) {
+            if (response.body() instanceof InputStream stream) {
+                close(stream);
+            }
+            throw new IllegalStateException("Http error " + response.statusCode() + " calling " + uri);
+        }
+        return response;
+    }
+
+    private static void close(InputStream stream) {
+        try {
+            stream.close();
+        } catch (IOException e) {
+            // the http error is reported, this one would only hide it.
+        }
+    }
+}
@@ -0,0 +1,186 @@
+/*
+ * This file is part of the Yildiz-Engine project, licenced under the MIT License  (MIT)
+ *  Copyright (c) 2026 Grégory Van den Borre
+ *  More infos available: https://engine.yildiz-games.be
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ *  documentation files (the "Software"), to deal in the Software without restriction, including without limitation
+ *  the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ *  permit persons to whom the Software is furnished to do so, subject to the following conditions: The above copyright
+ *  notice and this permission notice shall be included in all copies or substantial portions of the  Software.
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ *  WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS
+ *  OR COPYRIGHT  HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ *  OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package be.yildizgames.module.http.java;
+
+import be.yildizgames.module.http.AsyncHttpClient;
+import be.yildizgames.module.http.BandwidthPolicy;
+import be.yildizgames.module.http.BodyCodec;
+import be.yildizgames.module.http.CircuitBreakerPolicy;
+import be.yildizgames.module.http.HedgePolicy;
+import be.yildizgames.module.http.HttpClient;
+import be.yildizgames.module.http.HttpClientBuilder;
+import be.yildizgames.module.http.HttpClientConfiguration;
+import be.yildizgames.module.http.HttpClientMetrics;
+import be.yildizgames.module.http.ProgressPolicy;
+import be.yildizgames.module.http.RetryPolicy;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+
+/**
+ * Reference implementation of the builder, based on the java.net.http client.
+ * Timeouts are expressed in milliseconds.
+ * The idle timeout of the java.net.http connection pool is only configurable for the whole process, with the
+ * jdk.httpclient.keepalive.timeout and jdk.httpclient.keepalive.timeout.h2 system properties, in seconds, which this builder never changes.
+ * The maximum connections per host is enforced by limiting the requests in flight to a host, and the maximum streams
+ * once the host answers with HTTP/2, a single connection then being used per host.
+ * The client does not expose its connection events, the DNS, connect and TLS times are not measured by the metrics.
+ * Closing a client shuts down its java.net.http client, the connections are released once the calls in flight are completed.
+ *
+ * @author Grégory Van den Borre
+ */
+public class JavaHttpClientBuilder implements HttpClientBuilder {
+
+    private static final Executor VIRTUAL_THREADS = task -> Thread.ofVirtual().start(task);
+
+    private final Executor executor;
+
+    private final HttpClientConfiguration configuration;
+
+    private final BodyCodec codec;
+
+    private final HttpClientMetrics metrics;
+
+    private final RetryPolicy retry;
+
+    private final HedgePolicy hedge;
+
+    private final CircuitBreakerPolicy circuitBreaker;
+
+    private final ProgressPolicy progress;
+
+    private final BandwidthPolicy bandwidth;
+
+    public JavaHttpClientBuilder() {
+        this(null, HttpClientConfiguration.defaultConfiguration(), null, HttpClientMetrics.NONE,
+                RetryPolicy.none(), HedgePolicy.none(), CircuitBreakerPolicy.none(), ProgressPolicy.defaultPolicy(),
+                BandwidthPolicy.unlimited());
+    }
+
+    private JavaHttpClientBuilder(Executor executor, HttpClientConfiguration configuration, BodyCodec codec, HttpClientMetrics metrics,
+                                  RetryPolicy retry, HedgePolicy hedge, CircuitBreakerPolicy circuitBreaker, ProgressPolicy progress,
+                                  BandwidthPolicy bandwidth) {
+        super();
+        this.executor = executor;
+        this.configuration = configuration;
+        this.codec = codec;
+        this.metrics = metrics;
+        this.retry = retry;
+        this.hedge = hedge;
+        this.circuitBreaker = circuitBreaker;
+        this.progress = progress;
+        this.bandwidth = bandwidth;
+    }
+
+    @Override
+    public final HttpClient buildHttpClient() {
+        return new JavaHttpClient(this.buildCaller(this.configuration));
+    }
+
+    @Override
+    public final HttpClient buildHttpClient(int timeout) {
+        return new JavaHttpClient(this.buildCaller(withTimeout(this.configuration, timeout)));
+    }
+
+    @Override
+    public final AsyncHttpClient buildAsyncHttpClient() {
+        return new JavaAsyncHttpClient(this.buildCaller(this.configuration));
+    }
+
+    @Override
+    public final AsyncHttpClient buildAsyncHttpClient(int timeout) {
+        return new JavaAsyncHttpClient(this.buildCaller(withTimeout(this.configuration, timeout)));
+    }
+
+    @Override
+    public final HttpClientBuilder withConfiguration(HttpClientConfiguration configuration) {
+        return new JavaHttpClientBuilder(this.executor, Objects.requireNonNull(configuration), this.codec, this.metrics, this.retry, this.hedge, this.circuitBreaker, this.progress, this.bandwidth);
+    }
+
+    @Override
+    public final HttpClientBuilder withCodec(BodyCodec codec) {
+        return new JavaHttpClientBuilder(this.executor, this.configuration, Objects.requireNonNull(codec), this.metrics, this.retry, this.hedge, this.circuitBreaker, this.progress, this.bandwidth);
+    }
+
+    @Override
+    public final HttpClientBuilder withExecutor(Executor executor) {
+        return new JavaHttpClientBuilder(Objects.requireNonNull(executor), this.configuration, this.codec, this.metrics, this.retry, this.hedge, this.circuitBreaker, this.progress, this.bandwidth);
+    }
+
+    @Override
+    public final HttpClientBuilder withMetrics(HttpClientMetrics metrics) {
+        return new JavaHttpClientBuilder(this.executor, this.configuration, this.codec, Objects.requireNonNull(metrics), this.retry, this.hedge, this.circuitBreaker, this.progress, this.bandwidth);
+    }
+
+    @Override
+    public final HttpClientBuilder withRetryPolicy(RetryPolicy policy) {
+        return new JavaHttpClientBuilder(this.executor, this.configuration, this.codec, this.metrics, Objects.requireNonNull(policy), this.hedge, this.circuitBreaker, this.progress, this.bandwidth);
+    }
+
+    @Override
+    public final HttpClientBuilder withHedgePolicy(HedgePolicy policy) {
+        return new JavaHttpClientBuilder(this.executor, this.configuration, this.codec, this.metrics, this.retry, Objects.requireNonNull(policy), this.circuitBreaker, this.progress, this.bandwidth);
+    }
+
+    @Override
+    public final HttpClientBuilder withCircuitBreakerPolicy(CircuitBreakerPolicy policy) {
+        return new JavaHttpClientBuilder(this.executor, this.configuration, this.codec, this.metrics, this.retry, this.hedge, Objects.requireNonNull(policy), this.progress, this.bandwidth);
+    }
+
+    @Override
+    public final HttpClientBuilder withProgressPolicy(ProgressPolicy policy) {
+        return new JavaHttpClientBuilder(this.executor, this.configuration, this.codec, this.metrics, this.retry, this.hedge, this.circuitBreaker, Objects.requireNonNull(policy), this.bandwidth);
+    }
+
+    @Override
+    public final HttpClientBuilder withBandwidthPolicy(BandwidthPolicy policy) {
+        return new JavaHttpClientBuilder(this.executor, this.configuration, this.codec, this.metrics, this.retry, this.hedge, this.circuitBreaker, this.progress,
+                Objects.requireNonNull(policy));
+    }
+
+    private JavaHttpCaller buildCaller(HttpClientConfiguration configuration) {
+        var builder = java.net.http.HttpClient.newBuilder()
+                .followRedirects(java.net.http.HttpClient.Redirect.NORMAL)
+                .version(configuration.preferHttp2() ? java.net.http.HttpClient.Version.HTTP_2 : java.net.http.HttpClient.Version.HTTP_1_1);
+        if (!configuration.connectTimeout().isZero()) {
+            builder.connectTimeout(configuration.connectTimeout());
+        }
+        if (this.executor != null) {
+            builder.executor(this.executor);
+        }
+        var mapping = new ObjectMapping(this.codec == null ? BodyCodec.provide().orElse(null) : this.codec);
+        var resilience = new Resilience(this.retry, this.hedge, this.circuitBreaker, this.metrics);
+        var executor = this.executor == null ? VIRTUAL_THREADS : this.executor;
+        return new JavaHttpCaller(builder.build(), configuration, mapping, this.metrics, resilience, new ProgressDispatcher(progress(), new Bandwidth(this.bandwidth)),
+                executor);
+    }
+
+    /**
+     * Notifications are delivered on the executor of the builder when one is set and the policy keeps the default executor.
+     */
+    private ProgressPolicy progress() {
+        if (this.executor != null && this.progress.executor() == ProgressPolicy.defaultPolicy().executor()) {
+            return this.progress.withExecutor(this.executor);
+        }
+        return this.progress;
+    }
+
+    private static HttpClientConfiguration withTimeout(HttpClientConfiguration configuration, int timeout) {
+        var duration = Duration.ofMillis(timeout);
+        return configuration.withConnectTimeout(duration).withReadTimeout(duration);
+    }
+}
@@ -0,0 +1,200 @@
+/*
+ * This file is part of the Yildiz-Engine project, licenced under the MIT License  (MIT)
+ *  Copyright (c) 2026 Grégory Van den Borre
+ *  More infos available: https://engine.yildiz-games.be
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ *  documentation files (the "Software"), to deal in the Software without restriction, including without limitation
+ *  the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ *  permit persons to whom the Software is furnished to do so, subject to the following conditions: The above copyright
+ *  notice and this permission notice shall be included in all copies or substantial portions of the  Software.
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ *  WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS
+ *  OR COPYRIGHT  HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ *  OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package be.yildizgames.module.http.java;
+
+import be.yildizgames.module.http.HttpClientMetrics;
+import be.yildizgames.module.http.HttpRequestTimings;
+
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Measure a request and report it to the metrics once its body is completely received, the call failed or was cancelled,
+ * as when a stream is closed before its end or a hedged copy loses.
+ * The java.net.http client does not expose its connection events, the DNS, connect and TLS times are then unavailable.
+ *
+ * @author Grégory Van den Borre
+ */
+final class MeteredExchange {
+
+    private final HttpClientMetrics metrics;
+
+    private final HttpRequest request;
+
+    private final int retries;
+
+    private final long start = System.nanoTime();
+
+    private final AtomicLong bytesIn = new AtomicLong();
+
+    private final AtomicLong bytesOut = new AtomicLong();
+
+    private final AtomicBoolean reported = new AtomicBoolean();
+
+    private volatile long queue = HttpRequestTimings.UNAVAILABLE;
+
+    private volatile long firstByte = HttpRequestTimings.UNAVAILABLE;
+
+    private volatile int httpCode = -1;
+
+    MeteredExchange(HttpClientMetrics metrics, HttpRequest request, int retries) {
+        super();
+        this.metrics = metrics;
+        this.request = request;
+        this.retries = retries;
+    }
+
+    /**
+     * Provide the request to send, counting the bytes of its body, and mark the end of the wait for a permit.
+     */
+    final HttpRequest request() {
+        this.queue = System.nanoTime() - this.start;
+        return this.request.bodyPublisher()
+                .<HttpRequest>map(p -> HttpRequest.newBuilder(this.request, (n, v) -> true)
+                        .method(this.request.method(), new CountingPublisher(p))
+                        .build())
+                .orElse(this.request);
+    }
+
+    /**
+     * Wrap a body handler to measure the time to first byte and count the received bytes.
+     */
+    final <T> HttpResponse.BodyHandler<T> handler(HttpResponse.BodyHandler<T> handler) {
+        return info -> {
+            this.firstByte = System.nanoTime() - this.start;
+            this.httpCode = info.statusCode();
+            return new CountingSubscriber<>(handler.apply(info));
+        };
+    }
+
+    /**
+     * Report the request, only the first call has an effect.
+     *
+     * @param failure Failure preventing the request to complete, null if successful.
+     */
+    final void report(Throwable failure) {
+        if (this.reported.compareAndSet(false, true)) {
+            this.metrics.completed(new HttpRequestTimings(this.request.uri(), this.request.method(), this.httpCode,
+                    HttpRequestTimings.UNAVAILABLE, HttpRequestTimings.UNAVAILABLE, HttpRequestTimings.UNAVAILABLE,
+                    this.queue, this.firstByte, System.nanoTime() - this.start, this.bytesIn.get(), this.bytesOut.get(), this.retries, failure));
+        }
+    }
+
+    private static long remaining(List<ByteBuffer> buffers) {
+        var size = 0L;
+        for (var buffer : buffers) {
+            size += buffer.remaining();
+        }
+        return size;
+    }
+
+    private final class CountingSubscriber<T> implements HttpResponse.BodySubscriber<T> {
+
+        private final HttpResponse.BodySubscriber<T> delegate;
+
+        private CountingSubscriber(HttpResponse.BodySubscriber<T> delegate) {
+            super();
+            this.delegate = delegate;
+        }
+
+        @Override
+        public CompletionStage<T> getBody() {
+            return this.delegate.getBody();
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.delegate.onSubscribe(new Flow.Subscription() {
+                @Override
+                public void request(long n) {
+                    subscription.request(n);
+                }
+
+                @Override
+                public void cancel() {
+                    report(new CancellationException("Response body cancelled before its end."));
+                    subscription.cancel();
+                }
+            });
+        }
+
+        @Override
+        public void onNext(List<ByteBuffer> item) {
+            bytesIn.addAndGet(remaining(item));
+            this.delegate.onNext(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            report(throwable);
+            this.delegate.onError(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            report(null);
+            this.delegate.onComplete();
+        }
+    }
+
+    private final class CountingPublisher implements HttpRequest.BodyPublisher {
+
+        private final HttpRequest.BodyPublisher delegate;
+
+        private CountingPublisher(HttpRequest.BodyPublisher delegate) {
+            super();
+            this.delegate = delegate;
+        }
+
+        @Override
+        public long contentLength() {
+            return this.delegate.contentLength();
+        }
+
+        @Override
+        public void subscribe(Flow.Subscriber<? super ByteBuffer> subscriber) {
+            this.delegate.subscribe(new Flow.Subscriber<ByteBuffer>() {
+                @Override
+                public void onSubscribe(Flow.Subscription subscription) {
+                    subscriber.onSubscribe(subscription);
+                }
+
+                @Override
+                public void onNext(ByteBuffer item) {
+                    bytesOut.addAndGet(item.remaining());
+                    subscriber.onNext(item);
+                }
+
+                @Override
+                public void onError(Throwable throwable) {
+                    subscriber.onError(throwable);
+                }
+
+                @Override
+                public void onComplete() {
+                    subscriber.onComplete();
+                }
+            });
+        }
+    }
+}
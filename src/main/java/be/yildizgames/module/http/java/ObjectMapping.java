@@ -0,0 +1,124 @@
+/*
+ * This file is part of the Yildiz-Engine project, licenced under the MIT License  (MIT)
+ *  Copyright (c) 2026 Grégory Van den Borre
+ *  More infos available: https://engine.yildiz-games.be
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ *  documentation files (the "Software"), to deal in the Software without restriction, including without limitation
+ *  the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ *  permit persons to whom the Software is furnished to do so, subject to the following conditions: The above copyright
+ *  notice and this permission notice shall be included in all copies or substantial portions of the  Software.
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ *  WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS
+ *  OR COPYRIGHT  HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ *  OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package be.yildizgames.module.http.java;
+
+import be.yildizgames.module.http.BodyCodec;
+import be.yildizgames.module.http.HttpCode;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Type;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Stream;
+
+/**
+ * Map the objects to and from the bodies with a codec while they are streamed.
+ * Text and byte arrays are handled directly, without any codec.
+ *
+ * @author Grégory Van den Borre
+ */
+final class ObjectMapping {
+
+    private static final String JSON = "application/json";
+
+    private final BodyCodec codec;
+
+    /**
+     * @param codec Codec to use, null if none is available.
+     */
+    ObjectMapping(BodyCodec codec) {
+        super();
+        this.codec = codec;
+    }
+
+    final String mediaType() {
+        return this.codec == null ? JSON : this.codec.mediaType();
+    }
+
+    /**
+     * Map a response body while reading it, the stream is always closed.
+     * This call blocks while the body is received, and must not be made on a thread of the client.
+     *
+     * @return The object, null if the response is not successful.
+     */
+    @SuppressWarnings("unchecked")
+    final <T> T decode(HttpResponse<InputStream> response, Type type) {
+        try (var body = response.body()) {
+            if (!HttpCode.isSuccessful(response.statusCode())) {
+                return null;
+            }
+            if (type == String.class) {
+                return (T) new String(body.readAllBytes(), JavaHttpCaller.charset(response.headers()));
+            }
+            if (type == byte[].class) {
+                return (T) body.readAllBytes();
+            }
+            return this.codec().decode(body, type);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Map the elements of a response body while they are read, the stream closes the body when it is closed.
+     *
+     * @return The elements, empty if the response is not successful.
+     */
+    final <T> Stream<T> decodeElements(HttpResponse<InputStream> response, Type type) {
+        try {
+            if (!HttpCode.isSuccessful(response.statusCode())) {
+                response.body().close();
+                return Stream.empty();
+            }
+            return this.codec().decodeElements(response.body(), type);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (RuntimeException e) {
+            try {
+                response.body().close();
+            } catch (IOException suppressed) {
+                e.addSuppressed(suppressed);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Provide a request body encoding the object while the client is sending it.
+     * The object is written in a pipe from a virtual thread, a codec failure is handed to the client reading the pipe,
+     * the request is then aborted with it as cause instead of sending a truncated body.
+     */
+    final HttpRequest.BodyPublisher encode(Object value) {
+        if (value instanceof String s) {
+            return HttpRequest.BodyPublishers.ofString(s, StandardCharsets.UTF_8);
+        }
+        if (value instanceof byte[] b) {
+            return HttpRequest.BodyPublishers.ofByteArray(b);
+        }
+        var encoder = this.codec();
+        return BodyPipe.publisher(out -> encoder.encode(value, out));
+    }
+
+    private BodyCodec codec() {
+        if (this.codec == null) {
+            throw new IllegalStateException("No BodyCodec available, register one as service or provide it to the builder.");
+        }
+        return this.codec;
+    }
+}
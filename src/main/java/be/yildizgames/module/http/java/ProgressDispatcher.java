@@ -0,0 +1,241 @@
+/*
+ * This file is part of the Yildiz-Engine project, licenced under the MIT License  (MIT)
+ *  Copyright (c) 2026 Grégory Van den Borre
+ *  More infos available: https://engine.yildiz-games.be
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ *  documentation files (the "Software"), to deal in the Software without restriction, including without limitation
+ *  the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ *  permit persons to whom the Software is furnished to do so, subject to the following conditions: The above copyright
+ *  notice and this permission notice shall be included in all copies or substantial portions of the  Software.
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ *  WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS
+ *  OR COPYRIGHT  HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ *  OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package be.yildizgames.module.http.java;
+
+import be.yildizgames.module.http.HttpTransferListener;
+import be.yildizgames.module.http.ProgressPolicy;
+import be.yildizgames.module.http.TransferProgress;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Coalesce the updates of the transfers and deliver them to the listeners on the policy executor.
+ * The network threads only add the transferred size and, when the policy interval or threshold is reached,
+ * schedule a delivery if none is already pending for the transfer.
+ * The transfers also take their bandwidth tokens here, and are told how long to pause.
+ * A failing listener is logged and skipped, the result of the transfer never depends on the listeners.
+ *
+ * @author Grégory Van den Borre
+ */
+final class ProgressDispatcher {
+
+    private static final System.Logger LOGGER = System.getLogger(ProgressDispatcher.class.getName());
+
+    private final ProgressPolicy policy;
+
+    private final Bandwidth bandwidth;
+
+    private final List<HttpTransferListener> listeners = new CopyOnWriteArrayList<>();
+
+    private final Map<URI, List<HttpTransferListener>> uriListeners = new ConcurrentHashMap<>();
+
+    ProgressDispatcher(ProgressPolicy policy, Bandwidth bandwidth) {
+        super();
+        this.policy = policy;
+        this.bandwidth = bandwidth;
+    }
+
+    final void add(HttpTransferListener l) {
+        this.listeners.add(l);
+    }
+
+    final void add(URI uri, HttpTransferListener l) {
+        this.uriListeners.computeIfAbsent(uri, u -> new CopyOnWriteArrayList<>()).add(l);
+    }
+
+    final void remove(HttpTransferListener l) {
+        this.listeners.remove(l);
+        this.uriListeners.values().forEach(list -> list.remove(l));
+        this.uriListeners.values().removeIf(List::isEmpty);
+    }
+
+    /**
+     * Start tracking a transfer.
+     *
+     * @param contentLength Expected size, -1 if unknown.
+     */
+    final Transfer start(URI uri, TransferProgress.Direction direction, long contentLength) {
+        return new Transfer(uri, direction, contentLength);
+    }
+
+    private boolean hasListeners(URI uri) {
+        return !this.listeners.isEmpty() || this.uriListeners.containsKey(uri);
+    }
+
+    final class Transfer {
+
+        private final URI uri;
+
+        private final TransferProgress.Direction direction;
+
+        private final long contentLength;
+
+        private final long start = System.nanoTime();
+
+        private final AtomicLong transferred = new AtomicLong();
+
+        private final AtomicLong throttled = new AtomicLong();
+
+        /**
+         * Number of delivery requests not yet served, a delivery is only scheduled when it goes from 0.
+         */
+        private final AtomicInteger pending = new AtomicInteger();
+
+        private final AtomicBoolean completed = new AtomicBoolean();
+
+        private final CompletableFuture<Void> finished = new CompletableFuture<>();
+
+        private volatile long reported;
+
+        private volatile long reportedTime = this.start;
+
+        private volatile boolean done;
+
+        private Transfer(URI uri, TransferProgress.Direction direction, long contentLength) {
+            super();
+            this.uri = uri;
+            this.direction = direction;
+            this.contentLength = contentLength;
+        }
+
+        /**
+         * Count data already present before the transfer, as when a download is resumed, without notifying it.
+         */
+        final void resume(long size) {
+            this.reported = this.transferred.addAndGet(size);
+        }
+
+        /**
+         * Count transferred data, can be called concurrently.
+         *
+         * @return Time to pause the transfer to respect the bandwidth limits, in nanoseconds, 0 to continue.
+         */
+        final long update(long size) {
+            var total = this.transferred.addAndGet(size);
+            if (total - this.reported >= policy.threshold() && policy.threshold() > 0
+                    || System.nanoTime() - this.reportedTime >= policy.interval().toNanos()) {
+                if (hasListeners(this.uri)) {
+                    this.schedule();
+                }
+            }
+            var pause = bandwidth.take(this.uri, size);
+            if (pause > 0) {
+                this.throttled.addAndGet(pause);
+            }
+            return pause;
+        }
+
+        /**
+         * Count a received chunk and request the next one, once the pause required by the bandwidth limits is elapsed.
+         */
+        final void next(Flow.Subscription subscription, long size) {
+            var pause = this.update(size);
+            if (pause == 0) {
+                subscription.request(1);
+            } else {
+                CompletableFuture.delayedExecutor(pause, TimeUnit.NANOSECONDS).execute(() -> subscription.request(1));
+            }
+        }
+
+        /**
+         * Mark the transfer as complete, done or failed, and notify it.
+         *
+         * @return A future completed once the last notification is delivered.
+         */
+        final CompletableFuture<Void> complete() {
+            if (this.completed.compareAndSet(false, true)) {
+                this.done = true;
+                if (hasListeners(this.uri)) {
+                    this.schedule();
+                } else {
+                    this.finished.complete(null);
+                }
+            }
+            return this.finished;
+        }
+
+        private void schedule() {
+            if (this.pending.getAndIncrement() == 0) {
+                policy.executor().execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            var missed = this.pending.get();
+            do {
+                try {
+                    this.deliver();
+                } catch (Throwable e) {
+                    // must not stop the deliveries, nor leave the transfer call waiting.
+                    LOGGER.log(System.Logger.Level.ERROR, "Failed to deliver the progress of " + this.uri, e);
+                    if (this.done) {
+                        this.finished.complete(null);
+                    }
+                }
+                missed = this.pending.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void deliver() {
+            var last = this.done;
+            var total = this.transferred.get();
+            if (!last && total == this.reported) {
+                return;
+            }
+            var now = System.nanoTime();
+            var progress = new TransferProgress(this.uri, this.direction, total - this.reported, total, this.contentLength,
+                    Duration.ofNanos(now - this.start), Duration.ofNanos(this.throttled.get()), last);
+            this.reported = total;
+            this.reportedTime = now;
+            this.notify(listeners, progress);
+            var forUri = uriListeners.get(this.uri);
+            if (forUri != null) {
+                this.notify(forUri, progress);
+            }
+            if (last) {
+                this.finished.complete(null);
+            }
+        }
+
+        private void notify(List<HttpTransferListener> list, TransferProgress progress) {
+            for (var l : list) {
+                try {
+                    if (progress.lastTransferred() > 0) {
+                        if (this.direction == TransferProgress.Direction.SENT) {
+                            l.sent(this.uri, progress.lastTransferred(), progress.transferred());
+                        } else {
+                            l.received(this.uri, progress.lastTransferred(), progress.transferred());
+                        }
+                    }
+                    l.progress(progress);
+                } catch (RuntimeException e) {
+                    LOGGER.log(System.Logger.Level.WARNING, "Transfer listener failed for " + this.uri, e);
+                }
+            }
+        }
+    }
+}
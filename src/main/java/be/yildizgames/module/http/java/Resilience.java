@@ -0,0 +1,287 @@
+/*
+ * This file is part of the Yildiz-Engine project, licenced under the MIT License  (MIT)
+ *  Copyright (c) 2026 Grégory Van den Borre
+ *  More infos available: https://engine.yildiz-games.be
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ *  documentation files (the "Software"), to deal in the Software without restriction, including without limitation
+ *  the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ *  permit persons to whom the Software is furnished to do so, subject to the following conditions: The above copyright
+ *  notice and this permission notice shall be included in all copies or substantial portions of the  Software.
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ *  WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS
+ *  OR COPYRIGHT  HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ *  OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package be.yildizgames.module.http.java;
+
+import be.yildizgames.module.http.CircuitBreakerOpenException;
+import be.yildizgames.module.http.CircuitBreakerPolicy;
+import be.yildizgames.module.http.HedgePolicy;
+import be.yildizgames.module.http.HttpClientMetrics;
+import be.yildizgames.module.http.LatencyHistogram;
+import be.yildizgames.module.http.RetryPolicy;
+
+import java.io.IOException;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Apply the circuit breaker, retry and hedge policies around the attempts of a request.
+ * Every attempt goes through the circuit breaker of its host, a failed idempotent attempt is retried after a backoff delay,
+ * and an attempt without response after the hedge delay is raced with a copy.
+ *
+ * @author Grégory Van den Borre
+ */
+final class Resilience {
+
+    /**
+     * Number of observed latencies required before hedging, the percentile is meaningless below.
+     */
+    private static final int HEDGE_MIN_SAMPLES = 20;
+
+    private static final Set<String> IDEMPOTENT = Set.of("GET", "HEAD", "PUT", "DELETE", "OPTIONS", "TRACE");
+
+    private final RetryPolicy retry;
+
+    private final HedgePolicy hedge;
+
+    private final CircuitBreakerPolicy circuitBreaker;
+
+    private final HttpClientMetrics metrics;
+
+    private final LatencyHistogram latencies = new LatencyHistogram();
+
+    private final Map<String, Circuit> circuits = new ConcurrentHashMap<>();
+
+    Resilience(RetryPolicy retry, HedgePolicy hedge, CircuitBreakerPolicy circuitBreaker, HttpClientMetrics metrics) {
+        super();
+        this.retry = retry;
+        this.hedge = hedge;
+        this.circuitBreaker = circuitBreaker;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Send a request with the policies.
+     *
+     * @param request Request to send.
+     * @param replay  How the request can be sent again, only idempotent requests are ever sent again.
+     * @param attempt Make an attempt, receiving the number of retries already made.
+     * @return A future completed with the accepted response, or the last failure once the policies are exhausted.
+     */
+    final <T> CompletableFuture<HttpResponse<T>> send(HttpRequest request, Replay replay, Attempt<T> attempt) {
+        if (this.retry.maxAttempts() == 1 && this.hedge.maxHedges() == 0 && this.circuitBreaker.failureThreshold() == 0) {
+            return attempt.send(0);
+        }
+        var result = new CompletableFuture<HttpResponse<T>>();
+        this.attempt(request, IDEMPOTENT.contains(request.method()) ? replay : Replay.NEVER, attempt, 1, result);
+        return result;
+    }
+
+    private <T> void attempt(HttpRequest request, Replay replay, Attempt<T> attempt, int number, CompletableFuture<HttpResponse<T>> result) {
+        var host = HostPermits.key(request.uri());
+        var circuit = this.circuitBreaker.failureThreshold() == 0 ? null : this.circuits.computeIfAbsent(host, h -> new Circuit());
+        if (circuit != null && !circuit.allow()) {
+            result.completeExceptionally(new CircuitBreakerOpenException(host));
+            return;
+        }
+        var start = System.nanoTime();
+        var call = replay == Replay.ANY ? this.hedged(attempt, number - 1) : attempt.send(number - 1);
+        call.whenComplete((r, e) -> {
+            var failure = e == null ? null : JavaHttpCaller.unwrap(e);
+            if (circuit != null) {
+                circuit.record(failure == null && r.statusCode() < 500);
+            }
+            if (failure == null) {
+                this.latencies.record(System.nanoTime() - start);
+            }
+            if (number < this.retry.maxAttempts() && replay != Replay.NEVER && this.isRetryable(r, failure)) {
+                discard(r);
+                this.metrics.retried(request.uri(), number + 1, failure == null ? "Http code " + r.statusCode() : failure.toString());
+                CompletableFuture.delayedExecutor(this.retry.delay(number).toNanos(), TimeUnit.NANOSECONDS)
+                        .execute(() -> this.attempt(request, replay, attempt, number + 1, result));
+            } else if (failure != null) {
+                result.completeExceptionally(failure);
+            } else {
+                result.complete(r);
+            }
+        });
+    }
+
+    /**
+     * Make an attempt, and send copies if it is still pending after the hedge delay, the first accepted response wins.
+     * When all the copies fail, the last failure is kept.
+     * Once the result is known, the attempts still pending are cancelled, releasing their host permit and their connection.
+     */
+    private <T> CompletableFuture<HttpResponse<T>> hedged(Attempt<T> attempt, int retries) {
+        var delay = this.hedgeDelay();
+        if (delay < 0) {
+            return attempt.send(retries);
+        }
+        var result = new CompletableFuture<HttpResponse<T>>();
+        var pending = new AtomicInteger(1);
+        var attempts = new ConcurrentLinkedQueue<CompletableFuture<?>>();
+        result.whenComplete((r, e) -> attempts.forEach(a -> a.cancel(true)));
+        this.race(attempt, retries, result, pending, attempts);
+        for (int i = 1; i <= this.hedge.maxHedges(); i++) {
+            CompletableFuture.delayedExecutor(delay * i, TimeUnit.NANOSECONDS).execute(() -> {
+                if (!result.isDone()) {
+                    pending.incrementAndGet();
+                    this.race(attempt, retries, result, pending, attempts);
+                }
+            });
+        }
+        return result;
+    }
+
+    private <T> void race(Attempt<T> attempt, int retries, CompletableFuture<HttpResponse<T>> result, AtomicInteger pending,
+                          Queue<CompletableFuture<?>> attempts) {
+        var call = attempt.send(retries);
+        attempts.add(call);
+        if (result.isDone()) {
+            call.cancel(true);
+        }
+        call.whenComplete((r, e) -> {
+            var accepted = e == null && !this.isRetryable(r, null);
+            var last = pending.decrementAndGet() == 0;
+            var completed = (accepted || last) && (e == null ? result.complete(r) : result.completeExceptionally(e));
+            if (!completed) {
+                discard(r);
+            }
+        });
+    }
+
+    /**
+     * The percentile is the upper bound of its histogram bucket, so the delay can be up to 6.25% longer than the observed latency.
+     *
+     * @return The delay before sending a copy, in nanoseconds, -1 if no copy must be sent.
+     */
+    private long hedgeDelay() {
+        if (this.hedge.maxHedges() == 0 || this.latencies.count() < HEDGE_MIN_SAMPLES) {
+            return -1;
+        }
+        return Math.max(this.hedge.minDelay().toNanos(), this.latencies.percentile(this.hedge.percentile()));
+    }
+
+    private boolean isRetryable(HttpResponse<?> response, Throwable failure) {
+        if (failure != null) {
+            return failure instanceof IOException && !(failure instanceof CircuitBreakerOpenException);
+        }
+        return this.retry.retryableCodes().contains(response.statusCode());
+    }
+
+    /**
+     * Release a response not provided to the caller, a streamed body would otherwise keep its connection.
+     */
+    private static void discard(HttpResponse<?> response) {
+        if (response == null) {
+            return;
+        }
+        if (response.body() instanceof AutoCloseable closeable) {
+            try {
+                closeable.close();
+            } catch (Exception e) {
+                // Nothing more to release.
+            }
+        } else if (response.body() instanceof Flow.Publisher<?> publisher) {
+            publisher.subscribe(new Flow.Subscriber<Object>() {
+                @Override
+                public void onSubscribe(Flow.Subscription subscription) {
+                    subscription.cancel();
+                }
+
+                @Override
+                public void onNext(Object item) {
+                    // Cancelled.
+                }
+
+                @Override
+                public void onError(Throwable throwable) {
+                    // Nothing more to release.
+                }
+
+                @Override
+                public void onComplete() {
+                    // Nothing more to release.
+                }
+            });
+        }
+    }
+
+    /**
+     * How a request can be sent again.
+     */
+    enum Replay {
+
+        /**
+         * Retried, and hedged with concurrent copies.
+         */
+        ANY,
+
+        /**
+         * Retried once the previous attempt is completed, but never sent concurrently, when the body is written to a file.
+         */
+        SEQUENTIAL,
+
+        /**
+         * Never sent again, when the request depends on the progress of its previous attempt.
+         */
+        NEVER
+    }
+
+    @FunctionalInterface
+    interface Attempt<T> {
+
+        CompletableFuture<HttpResponse<T>> send(int retries);
+    }
+
+    /**
+     * State of the circuit breaker of a host.
+     */
+    private final class Circuit {
+
+        private int failures;
+
+        private long openUntil;
+
+        private boolean open;
+
+        private boolean trial;
+
+        /**
+         * @return true if a request can be sent, once the open duration is elapsed, only a single trial request is allowed.
+         */
+        private synchronized boolean allow() {
+            if (!this.open) {
+                return true;
+            }
+            if (System.nanoTime() - this.openUntil < 0 || this.trial) {
+                return false;
+            }
+            this.trial = true;
+            return true;
+        }
+
+        private synchronized void record(boolean success) {
+            if (success) {
+                this.failures = 0;
+                this.open = false;
+                this.trial = false;
+            } else if (this.trial || ++this.failures >= circuitBreaker.failureThreshold()) {
+                this.open = true;
+                this.trial = false;
+                this.openUntil = System.nanoTime() + circuitBreaker.openDuration().toNanos();
+            }
+        }
+    }
+}
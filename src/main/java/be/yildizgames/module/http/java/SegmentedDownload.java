@@ -0,0 +1,326 @@
+/*
+ * This file is part of the Yildiz-Engine project, licenced under the MIT License  (MIT)
+ *  Copyright (c) 2026 Grégory Van den Borre
+ *  More infos available: https://engine.yildiz-games.be
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ *  documentation files (the "Software"), to deal in the Software without restriction, including without limitation
+ *  the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ *  permit persons to whom the Software is furnished to do so, subject to the following conditions: The above copyright
+ *  notice and this permission notice shall be included in all copies or substantial portions of the  Software.
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ *  WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS
+ *  OR COPYRIGHT  HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ *  OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package be.yildizgames.module.http.java;
+
+import be.yildizgames.module.http.HttpCode;
+import be.yildizgames.module.http.TransferProgress;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Download a file with HTTP range requests, every segment is fetched in parallel and written at its position in a preallocated file.
+ * The file is written next to the destination with a .part suffix, and the progress of every segment is saved in a .state file
+ * while it advances, at most every second, and when the download fails.
+ * When a download is interrupted, even by a crash, the next one resumes the segments from their last saved position,
+ * as long as the remote file length and validator are unchanged.
+ * The validator is sent as If-Range, it must then be strong: a weak ETag is ignored in favor of Last-Modified,
+ * and the file is received as a single stream if there is no other validator.
+ * Once all the segments are complete, the file is moved to its destination.
+ *
+ * @author Grégory Van den Borre
+ */
+final class SegmentedDownload {
+
+    private static final int PARTIAL_CONTENT = 206;
+
+    private static final long SAVE_INTERVAL = TimeUnit.SECONDS.toNanos(1);
+
+    private final JavaHttpCaller caller;
+
+    private final URI uri;
+
+    private final Path destination;
+
+    private final Path part;
+
+    private final Path state;
+
+    private final int segments;
+
+    private ProgressDispatcher.Transfer transfer;
+
+    private List<Segment> plan;
+
+    private long length;
+
+    private String validator;
+
+    private volatile long lastSave = System.nanoTime();
+
+    SegmentedDownload(JavaHttpCaller caller, URI uri, Path destination, int segments) {
+        super();
+        this.caller = caller;
+        this.uri = uri;
+        this.destination = destination;
+        this.part = destination.resolveSibling(destination.getFileName() + ".part");
+        this.state = destination.resolveSibling(destination.getFileName() + ".part.state");
+        this.segments = segments;
+    }
+
+    final CompletableFuture<HttpResponse<Path>> start() {
+        var head = this.caller.request(this.uri).method("HEAD", HttpRequest.BodyPublishers.noBody()).build();
+        return this.caller.send(head, HttpResponse.BodyHandlers.replacing(this.destination)).thenCompose(r -> {
+            var length = r.headers().firstValueAsLong("Content-Length").orElse(-1);
+            var ranges = r.headers().firstValue("Accept-Ranges").map("bytes"::equalsIgnoreCase).orElse(false);
+            if (this.segments < 2 || !HttpCode.isSuccessful(r.statusCode()) || length <= 0 || !ranges) {
+                return this.caller.receiveFile(this.uri, this.destination);
+            }
+            var validator = r.headers().firstValue("ETag")
+                    .filter(etag -> !etag.startsWith("W/"))
+                    .or(() -> r.headers().firstValue("Last-Modified"))
+                    .orElse("");
+            if (validator.isEmpty() && r.headers().firstValue("ETag").isPresent()) {
+                return this.caller.receiveFile(this.uri, this.destination);
+            }
+            try {
+                return this.download(length, validator).thenApply(v -> r);
+            } catch (IOException e) {
+                return CompletableFuture.failedFuture(e);
+            }
+        });
+    }
+
+    private CompletableFuture<Void> download(long length, String validator) throws IOException {
+        this.length = length;
+        this.validator = validator;
+        this.plan = this.load();
+        if (this.plan == null) {
+            this.plan = this.plan();
+            try (var file = new RandomAccessFile(this.part.toFile(), "rw")) {
+                file.setLength(length);
+            }
+            this.save();
+        }
+        var channel = FileChannel.open(this.part, StandardOpenOption.WRITE);
+        var futures = new ArrayList<CompletableFuture<?>>();
+        this.transfer = this.caller.progress().start(this.uri, TransferProgress.Direction.RECEIVED, length);
+        for (var segment : this.plan) {
+            this.transfer.resume(segment.position - segment.start);
+            if (segment.position <= segment.end) {
+                futures.add(this.fetch(channel, segment));
+            }
+        }
+        return CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).whenComplete((v, e) -> {
+            try {
+                channel.close();
+                if (e == null) {
+                    Files.move(this.part, this.destination, StandardCopyOption.REPLACE_EXISTING);
+                    Files.delete(this.state);
+                } else {
+                    this.save();
+                }
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }).handle((v, e) -> this.transfer.complete().thenCompose(d -> e == null
+                ? CompletableFuture.<Void>completedFuture(null)
+                : CompletableFuture.<Void>failedFuture(e))).thenCompose(f -> f);
+    }
+
+    private CompletableFuture<HttpResponse<Void>> fetch(FileChannel channel, Segment segment) {
+        var request = this.caller.request(this.uri).header("Range", "bytes=" + segment.position + "-" + segment.end);
+        if (!this.validator.isEmpty()) {
+            request.header("If-Range", this.validator);
+        }
+        return this.caller.send(request.GET().build(), info -> info.statusCode() == PARTIAL_CONTENT
+                        ? new RangeBodySubscriber(channel, segment)
+                        : HttpResponse.BodySubscribers.replacing(null), Resilience.Replay.NEVER, HostPermits.Priority.BULK)
+                .thenApply(r -> {
+                    if (r.statusCode() != PARTIAL_CONTENT) {
+                        throw new IllegalStateException("Range not honoured for " + this.uri + ", http code " + r.statusCode());
+                    }
+                    return r;
+                });
+    }
+
+    private List<Segment> plan() {
+        var size = (this.length + this.segments - 1) / this.segments;
+        var plan = new ArrayList<Segment>();
+        for (long start = 0; start < this.length; start += size) {
+            plan.add(new Segment(start, Math.min(start + size, this.length) - 1, start));
+        }
+        return plan;
+    }
+
+    /**
+     * Load the state of a previous download.
+     *
+     * @return The segments, or null if there is no previous download for the same remote file.
+     */
+    private List<Segment> load() {
+        if (!Files.isRegularFile(this.state) || !Files.isRegularFile(this.part)) {
+            return null;
+        }
+        try {
+            var lines = Files.readAllLines(this.state);
+            if (lines.size() < 3 || Long.parseLong(lines.get(0)) != this.length || !lines.get(1).equals(this.validator)
+                    || Files.size(this.part) != this.length) {
+                return null;
+            }
+            var plan = new ArrayList<Segment>();
+            for (var line : lines.subList(2, lines.size())) {
+                var values = line.split(" ");
+                plan.add(new Segment(Long.parseLong(values[0]), Long.parseLong(values[1]), Long.parseLong(values[2])));
+            }
+            return plan;
+        } catch (IOException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Save the progress of the segments, replacing the previous state at once so a crash never leaves it truncated.
+     */
+    private synchronized void save() throws IOException {
+        var lines = new ArrayList<String>();
+        lines.add(String.valueOf(this.length));
+        lines.add(this.validator);
+        for (var segment : this.plan) {
+            lines.add(segment.start + " " + segment.end + " " + segment.position);
+        }
+        var next = this.state.resolveSibling(this.state.getFileName() + ".tmp");
+        Files.write(next, lines);
+        try {
+            Files.move(next, this.state, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(next, this.state, StandardCopyOption.REPLACE_EXISTING);
+        }
+        this.lastSave = System.nanoTime();
+    }
+
+    /**
+     * Save the progress if it was not saved for a while, a failure is ignored, the state being saved again later.
+     */
+    private void checkpoint() {
+        if (System.nanoTime() - this.lastSave < SAVE_INTERVAL) {
+            return;
+        }
+        synchronized (this) {
+            if (System.nanoTime() - this.lastSave < SAVE_INTERVAL) {
+                return;
+            }
+            try {
+                this.save();
+            } catch (IOException e) {
+                this.lastSave = System.nanoTime();
+            }
+        }
+    }
+
+    /**
+     * Range of bytes of the file, the position is the next byte to fetch.
+     */
+    private static final class Segment {
+
+        private final long start;
+
+        private final long end;
+
+        private volatile long position;
+
+        private Segment(long start, long end, long position) {
+            super();
+            this.start = start;
+            this.end = end;
+            this.position = position;
+        }
+    }
+
+    /**
+     * Write a segment at its position in the file.
+     */
+    private final class RangeBodySubscriber implements HttpResponse.BodySubscriber<Void> {
+
+        private final CompletableFuture<Void> result = new CompletableFuture<>();
+
+        private final FileChannel channel;
+
+        private final Segment segment;
+
+        private Flow.Subscription subscription;
+
+        private RangeBodySubscriber(FileChannel channel, Segment segment) {
+            super();
+            this.channel = channel;
+            this.segment = segment;
+        }
+
+        @Override
+        public CompletionStage<Void> getBody() {
+            return this.result;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            subscription.request(1);
+        }
+
+        @Override
+        public void onNext(List<ByteBuffer> item) {
+            try {
+                long received = 0;
+                for (var buffer : item) {
+                    if (this.segment.position + buffer.remaining() > this.segment.end + 1) {
+                        throw new IOException("Received more data than requested for " + uri);
+                    }
+                    while (buffer.hasRemaining()) {
+                        var written = this.channel.write(buffer, this.segment.position);
+                        this.segment.position += written;
+                        received += written;
+                    }
+                }
+                checkpoint();
+                transfer.next(this.subscription, received);
+            } catch (IOException e) {
+                this.subscription.cancel();
+                this.result.completeExceptionally(e);
+            }
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            this.result.completeExceptionally(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            if (this.segment.position <= this.segment.end) {
+                this.result.completeExceptionally(new IOException("Incomplete segment for " + uri));
+            } else {
+                this.result.complete(null);
+            }
+        }
+    }
+}
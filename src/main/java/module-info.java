@@ -16,9 +16,14 @@
 open module be.yildizgames.module.http {
 
     uses be.yildizgames.module.http.HttpClientBuilder;
+    uses be.yildizgames.module.http.BodyCodec;
+    uses be.yildizgames.module.http.ContentEncoding;
 
     requires org.apiguardian.api;
+    requires java.net.http;
 
     exports be.yildizgames.module.http;
 
+    provides be.yildizgames.module.http.HttpClientBuilder with be.yildizgames.module.http.java.JavaHttpClientBuilder;
+
 }
\ No newline at end of file
@@ -0,0 +1,237 @@
+/*
+ * This file is part of the Yildiz-Engine project, licenced under the MIT License  (MIT)
+ *  Copyright (c) 2026 Grégory Van den Borre
+ *  More infos available: https://engine.yildiz-games.be
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ *  documentation files (the "Software"), to deal in the Software without restriction, including without limitation
+ *  the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ *  permit persons to whom the Software is furnished to do so, subject to the following conditions: The above copyright
+ *  notice and this permission notice shall be included in all copies or substantial portions of the  Software.
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ *  WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS
+ *  OR COPYRIGHT  HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ *  OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package be.yildizgames.module.http;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.Type;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * @author Grégory Van den Borre
+ */
+class CachingHttpClientTest {
+
+    private final AtomicInteger calls = new AtomicInteger();
+
+    private final AtomicInteger notModified = new AtomicInteger();
+
+    private HttpServer server;
+
+    private URI base;
+
+    @BeforeEach
+    void start() throws IOException {
+        this.server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        this.server.createContext("/fresh", e -> this.respond(e, "max-age=60", "fresh"));
+        this.server.createContext("/etag", e -> {
+            if ("\"v1\"".equals(e.getRequestHeaders().getFirst("If-None-Match"))) {
+                this.calls.incrementAndGet();
+                this.notModified.incrementAndGet();
+                e.getResponseHeaders().add("ETag", "\"v1\"");
+                e.sendResponseHeaders(304, -1);
+                e.close();
+            } else {
+                this.respond(e, "no-cache", "etag");
+            }
+        });
+        this.server.createContext("/nostore", e -> this.respond(e, "no-store", "nostore"));
+        this.server.createContext("/vary", e -> {
+            e.getResponseHeaders().add("Vary", "Accept-Language, *");
+            this.respond(e, "max-age=60", "vary");
+        });
+        this.server.createContext("/refreshed", e -> {
+            if ("\"v1\"".equals(e.getRequestHeaders().getFirst("If-None-Match"))) {
+                this.calls.incrementAndGet();
+                this.notModified.incrementAndGet();
+                e.getResponseHeaders().add("ETag", "\"v1\"");
+                e.getResponseHeaders().add("Cache-Control", "max-age=60");
+                e.getResponseHeaders().add("X-Version", "2");
+                e.sendResponseHeaders(304, -1);
+                e.close();
+            } else {
+                e.getResponseHeaders().add("X-Version", "1");
+                e.getResponseHeaders().add("Content-Type", "text/plain; charset=UTF-16");
+                this.respond(e, "no-cache", "refreshed", StandardCharsets.UTF_16);
+            }
+        });
+        this.server.start();
+        this.base = URI.create("http://localhost:" + this.server.getAddress().getPort());
+    }
+
+    private void respond(HttpExchange e, String cacheControl, String content) throws IOException {
+        this.respond(e, cacheControl, content, StandardCharsets.UTF_8);
+    }
+
+    private void respond(HttpExchange e, String cacheControl, String content, Charset charset) throws IOException {
+        this.calls.incrementAndGet();
+        var body = content.getBytes(charset);
+        e.getResponseHeaders().add("Cache-Control", cacheControl);
+        e.getResponseHeaders().add("ETag", "\"v1\"");
+        e.sendResponseHeaders(200, body.length);
+        e.getResponseBody().write(body);
+        e.close();
+    }
+
+    @AfterEach
+    void stop() {
+        this.server.stop(0);
+    }
+
+    @Test
+    void fresh() {
+        var client = new CachingHttpClient(HttpClientBuilder.provide().buildHttpClient(), 1024);
+        Assertions.assertEquals("fresh", client.getText(base.resolve("/fresh")));
+        Assertions.assertEquals("fresh", client.getText(base.resolve("/fresh")));
+        Assertions.assertEquals(1, this.calls.get());
+        Assertions.assertEquals(1, client.getHitCount());
+        Assertions.assertEquals(1, client.getMissCount());
+    }
+
+    @Test
+    void expired() {
+        var clock = new MutableClock();
+        var client = new CachingHttpClient(HttpClientBuilder.provide().buildHttpClient(), null, 1024, null, clock);
+        client.getText(base.resolve("/fresh"));
+        clock.now = clock.now.plusSeconds(61);
+        client.getText(base.resolve("/fresh"));
+        Assertions.assertEquals(2, this.calls.get());
+    }
+
+    @Test
+    void revalidated() {
+        var client = new CachingHttpClient(HttpClientBuilder.provide().buildHttpClient(), 1024);
+        Assertions.assertEquals("etag", client.getText(base.resolve("/etag")));
+        Assertions.assertEquals("etag", client.getText(base.resolve("/etag")));
+        Assertions.assertEquals(2, this.calls.get());
+        Assertions.assertEquals(1, this.notModified.get());
+        Assertions.assertEquals(1, client.getHitCount());
+    }
+
+    @Test
+    void noStore() {
+        var client = new CachingHttpClient(HttpClientBuilder.provide().buildHttpClient(), 1024);
+        client.getText(base.resolve("/nostore"));
+        client.getText(base.resolve("/nostore"));
+        Assertions.assertEquals(2, this.calls.get());
+        Assertions.assertEquals(0, client.getSize());
+    }
+
+    @Test
+    void refreshedHeaders() {
+        var client = new CachingHttpClient(HttpClientBuilder.provide().buildHttpClient(), 1024);
+        Assertions.assertEquals("1", client.getTextResponse(base.resolve("/refreshed")).getHeaders().firstValue("X-Version").orElseThrow());
+        var revalidated = client.getTextResponse(base.resolve("/refreshed"));
+        Assertions.assertEquals("2", revalidated.getHeaders().firstValue("x-version").orElseThrow());
+        Assertions.assertEquals("refreshed", revalidated.getBody());
+        Assertions.assertEquals("refreshed", client.getText(base.resolve("/refreshed")));
+        Assertions.assertEquals(2, this.calls.get());
+        Assertions.assertEquals(1, this.notModified.get());
+    }
+
+    @Test
+    void varyOnAnything() {
+        var client = new CachingHttpClient(HttpClientBuilder.provide().buildHttpClient(), 1024);
+        client.getText(base.resolve("/vary"));
+        client.getText(base.resolve("/vary"));
+        Assertions.assertEquals(2, this.calls.get());
+        Assertions.assertEquals(0, client.getSize());
+    }
+
+    @Test
+    void codec() {
+        var codec = new BodyCodec() {
+            @Override
+            public String mediaType() {
+                return "text/plain";
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public <T> T decode(InputStream body, Type type) throws IOException {
+                return (T) Integer.valueOf(body.readAllBytes().length);
+            }
+
+            @Override
+            public void encode(Object value, OutputStream body) {
+                throw new UnsupportedOperationException();
+            }
+        };
+        var client = new CachingHttpClient(HttpClientBuilder.provide().buildHttpClient(), codec, 1024);
+        Assertions.assertEquals(5, client.getObject(base.resolve("/fresh"), Integer.class));
+        Assertions.assertEquals(5, client.getObject(base.resolve("/fresh"), Integer.class));
+        Assertions.assertEquals(1, this.calls.get());
+    }
+
+    @Test
+    void evicted() {
+        var client = new CachingHttpClient(HttpClientBuilder.provide().buildHttpClient(), 6);
+        client.getText(base.resolve("/fresh"));
+        client.getText(base.resolve("/etag"));
+        Assertions.assertEquals(4, client.getSize());
+        client.getText(base.resolve("/fresh"));
+        Assertions.assertEquals(3, this.calls.get());
+    }
+
+    @Test
+    void file(@TempDir Path folder) throws IOException {
+        var client = new CachingHttpClient(HttpClientBuilder.provide().buildHttpClient(), 1024, folder.resolve("cache"));
+        client.receiveFile(base.resolve("/etag"), folder.resolve("first.txt"));
+        client.receiveFile(base.resolve("/etag"), folder.resolve("second.txt"));
+        Assertions.assertEquals("etag", Files.readString(folder.resolve("second.txt")));
+        Assertions.assertEquals(1, this.notModified.get());
+        Assertions.assertEquals(1, client.getHitCount());
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now = Instant.now();
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return this.now;
+        }
+    }
+}
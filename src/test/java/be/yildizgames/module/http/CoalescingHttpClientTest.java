@@ -0,0 +1,96 @@
+/*
+ * This file is part of the Yildiz-Engine project, licenced under the MIT License  (MIT)
+ *  Copyright (c) 2026 Grégory Van den Borre
+ *  More infos available: https://engine.yildiz-games.be
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ *  documentation files (the "Software"), to deal in the Software without restriction, including without limitation
+ *  the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ *  permit persons to whom the Software is furnished to do so, subject to the following conditions: The above copyright
+ *  notice and this permission notice shall be included in all copies or substantial portions of the  Software.
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ *  WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS
+ *  OR COPYRIGHT  HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ *  OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package be.yildizgames.module.http;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * @author Grégory Van den Borre
+ */
+class CoalescingHttpClientTest {
+
+    private final AtomicInteger calls = new AtomicInteger();
+
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private HttpServer server;
+
+    private URI base;
+
+    @BeforeEach
+    void start() throws IOException {
+        this.server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        this.server.createContext("/slow", e -> {
+            this.calls.incrementAndGet();
+            try {
+                this.release.await();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            var body = "slow".getBytes(StandardCharsets.UTF_8);
+            e.sendResponseHeaders(200, body.length);
+            e.getResponseBody().write(body);
+            e.close();
+        });
+        this.server.start();
+        this.base = URI.create("http://localhost:" + this.server.getAddress().getPort());
+    }
+
+    @AfterEach
+    void stop() {
+        this.server.stop(0);
+    }
+
+    @Test
+    void concurrentCalls() throws InterruptedException {
+        var client = new CoalescingHttpClient(HttpClientBuilder.provide().buildHttpClient());
+        var results = new ArrayList<CompletableFuture<String>>();
+        for (int i = 0; i < 20; i++) {
+            results.add(CompletableFuture.supplyAsync(() -> client.getText(base.resolve("/slow")), task -> Thread.ofVirtual().start(task)));
+        }
+        while (client.getCoalescedCount() < 19) {
+            Thread.sleep(10);
+        }
+        this.release.countDown();
+        for (var result : results) {
+            Assertions.assertEquals("slow", result.join());
+        }
+        Assertions.assertEquals(1, this.calls.get());
+    }
+
+    @Test
+    void sequentialCalls() {
+        this.release.countDown();
+        var client = new CoalescingHttpClient(HttpClientBuilder.provide().buildHttpClient());
+        client.getText(base.resolve("/slow"));
+        client.getText(base.resolve("/slow"));
+        Assertions.assertEquals(2, this.calls.get());
+        Assertions.assertEquals(0, client.getCoalescedCount());
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * This file is part of the Yildiz-Engine project, licenced under the MIT License  (MIT)
+ *  Copyright (c) 2026 Grégory Van den Borre
+ *  More infos available: https://engine.yildiz-games.be
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ *  documentation files (the "Software"), to deal in the Software without restriction, including without limitation
+ *  the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ *  permit persons to whom the Software is furnished to do so, subject to the following conditions: The above copyright
+ *  notice and this permission notice shall be included in all copies or substantial portions of the  Software.
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ *  WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS
+ *  OR COPYRIGHT  HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ *  OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package be.yildizgames.module.http;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * @author Grégory Van den Borre
+ */
+class HeadersTest {
+
+    @Test
+    void caseInsensitiveLookup() {
+        var headers = Headers.of(Map.of("Content-Type", List.of("text/plain"), "x-custom", List.of("a", "b")));
+        Assertions.assertEquals("text/plain", headers.firstValue("content-type").orElseThrow());
+        Assertions.assertEquals(List.of("a", "b"), headers.values("X-Custom"));
+        Assertions.assertTrue(headers.firstValue("ETag").isEmpty());
+        Assertions.assertTrue(headers.values("ETag").isEmpty());
+    }
+
+    @Test
+    void sameNameWithDifferentCaseIsMerged() {
+        var headers = new Headers(List.of(new Header("Vary", List.of("a")), new Header("vary", List.of("b"))));
+        Assertions.assertEquals(List.of("a", "b"), headers.values("VARY"));
+        Assertions.assertEquals("a", headers.firstValue("vary").orElseThrow());
+    }
+
+    @Test
+    void equality() {
+        var raw = Headers.of(Map.of("Accept", List.of("*/*")));
+        var list = new Headers(List.of(new Header("Accept", List.of("*/*"))));
+        Assertions.assertEquals(raw, list);
+        Assertions.assertEquals(raw.hashCode(), list.hashCode());
+        Assertions.assertEquals(Headers.empty(), new Headers(List.of()));
+    }
+
+    @Test
+    void headersListIsImmutable() {
+        var source = new ArrayList<>(List.of(new Header("Accept", List.of("*/*"))));
+        var headers = new Headers(source);
+        source.clear();
+        Assertions.assertEquals(1, headers.headers().size());
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> headers.headers().clear());
+        Assertions.assertTrue(Headers.class.isRecord());
+    }
+}
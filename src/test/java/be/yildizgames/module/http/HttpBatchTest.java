@@ -0,0 +1,69 @@
+/*
+ * This file is part of the Yildiz-Engine project, licenced under the MIT License  (MIT)
+ *  Copyright (c) 2026 Grégory Van den Borre
+ *  More infos available: https://engine.yildiz-games.be
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ *  documentation files (the "Software"), to deal in the Software without restriction, including without limitation
+ *  the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ *  permit persons to whom the Software is furnished to do so, subject to the following conditions: The above copyright
+ *  notice and this permission notice shall be included in all copies or substantial portions of the  Software.
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ *  WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS
+ *  OR COPYRIGHT  HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ *  OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package be.yildizgames.module.http;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * @author Grégory Van den Borre
+ */
+class HttpBatchTest {
+
+    private static final List<URI> URIS = List.of(URI.create("http://a/1"), URI.create("http://a/2"), URI.create("http://a/3"));
+
+    @Test
+    void concurrencyIsBounded() {
+        var pending = new ArrayList<CompletableFuture<HttpResponse<String>>>();
+        var batch = HttpBatch.start(URIS, 2, uri -> {
+            var f = new CompletableFuture<HttpResponse<String>>();
+            pending.add(f);
+            return f;
+        });
+        Assertions.assertEquals(2, pending.size());
+        pending.get(1).complete(new HttpResponse<>(200, "2", new Headers(List.of())));
+        Assertions.assertEquals(3, pending.size());
+        pending.get(0).complete(new HttpResponse<>(200, "1", new Headers(List.of())));
+        pending.get(2).complete(new HttpResponse<>(500, "3", new Headers(List.of())));
+        var bodies = batch.stream().map(r -> r.response().getBody()).toList();
+        Assertions.assertEquals(List.of("2", "1", "3"), bodies);
+        Assertions.assertEquals(1, batch.join().failures().size());
+    }
+
+    @Test
+    void failedCall() {
+        var batch = HttpBatch.start(URIS, 5, uri -> {
+            throw new IllegalArgumentException();
+        });
+        Assertions.assertEquals(3, batch.join().failures().size());
+        Assertions.assertTrue(batch.join().failures().get(0).response().getError().isPresent());
+    }
+
+    @Test
+    void empty() {
+        Assertions.assertTrue(HttpBatch.start(List.<URI>of(), 5, uri -> null).join().isSuccessful());
+    }
+
+    @Test
+    void invalidConcurrency() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> HttpBatch.start(URIS, 0, uri -> null));
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * This file is part of the Yildiz-Engine project, licenced under the MIT License  (MIT)
+ *  Copyright (c) 2026 Grégory Van den Borre
+ *  More infos available: https://engine.yildiz-games.be
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ *  documentation files (the "Software"), to deal in the Software without restriction, including without limitation
+ *  the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ *  permit persons to whom the Software is furnished to do so, subject to the following conditions: The above copyright
+ *  notice and this permission notice shall be included in all copies or substantial portions of the  Software.
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ *  WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS
+ *  OR COPYRIGHT  HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ *  OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package be.yildizgames.module.http;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * @author Grégory Van den Borre
+ */
+class JsonElementsTest {
+
+    private static List<String> split(String json) {
+        var elements = new JsonElements<>(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)),
+                e -> new String(e.readAllBytes(), StandardCharsets.UTF_8));
+        var result = new ArrayList<String>();
+        elements.forEachRemaining(result::add);
+        return result;
+    }
+
+    @Test
+    void array() {
+        Assertions.assertEquals(List.of("{\"a\":[1,2]}", "\"x,]\\\"\"", "3"), split(" [ {\"a\":[1,2]} ,\n\"x,]\\\"\", 3 ] "));
+    }
+
+    @Test
+    void emptyArray() {
+        Assertions.assertEquals(List.of(), split("[ ]"));
+        Assertions.assertEquals(List.of(), split(""));
+    }
+
+    @Test
+    void newLineDelimited() {
+        Assertions.assertEquals(List.of("{\"a\":1}", "{\"b\":\"\\n\"}"), split("{\"a\":1}\r\n\n{\"b\":\"\\n\"}"));
+    }
+
+    @Test
+    void truncated() {
+        Assertions.assertThrows(UncheckedIOException.class, () -> split("[{\"a\":1},{\"b\""));
+    }
+}
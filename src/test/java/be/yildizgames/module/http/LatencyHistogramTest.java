@@ -0,0 +1,73 @@
+/*
+ * This file is part of the Yildiz-Engine project, licenced under the MIT License  (MIT)
+ *  Copyright (c) 2026 Grégory Van den Borre
+ *  More infos available: https://engine.yildiz-games.be
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ *  documentation files (the "Software"), to deal in the Software without restriction, including without limitation
+ *  the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ *  permit persons to whom the Software is furnished to do so, subject to the following conditions: The above copyright
+ *  notice and this permission notice shall be included in all copies or substantial portions of the  Software.
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ *  WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS
+ *  OR COPYRIGHT  HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ *  OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package be.yildizgames.module.http;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Grégory Van den Borre
+ */
+class LatencyHistogramTest {
+
+    @Test
+    void empty() {
+        var histogram = new LatencyHistogram();
+        Assertions.assertEquals(0, histogram.count());
+        Assertions.assertEquals(0, histogram.mean());
+        Assertions.assertEquals(0, histogram.percentile(99));
+    }
+
+    @Test
+    void percentiles() {
+        var histogram = new LatencyHistogram();
+        for (int i = 1; i <= 100; i++) {
+            histogram.record(i);
+        }
+        histogram.record(-1);
+        Assertions.assertEquals(100, histogram.count());
+        Assertions.assertEquals(50, histogram.mean());
+        Assertions.assertEquals(100, histogram.max());
+        Assertions.assertEquals(51, histogram.percentile(50));
+        Assertions.assertEquals(99, histogram.percentile(99));
+        Assertions.assertEquals(100, histogram.percentile(100));
+        Assertions.assertEquals(1, histogram.percentile(1));
+    }
+
+    @Test
+    void relativeError() {
+        for (long value = 1; value < Long.MAX_VALUE / 3; value = value * 3 + 1) {
+            var histogram = new LatencyHistogram();
+            histogram.record(value);
+            histogram.record(Long.MAX_VALUE);
+            var bound = histogram.percentile(50);
+            Assertions.assertTrue(bound >= value, "Bound " + bound + " below " + value);
+            Assertions.assertTrue(bound - value <= value / 16, "Bound " + bound + " too far from " + value);
+        }
+    }
+
+    @Test
+    void largeValue() {
+        var histogram = new LatencyHistogram();
+        histogram.record(Long.MAX_VALUE);
+        Assertions.assertEquals(Long.MAX_VALUE, histogram.percentile(100));
+    }
+
+    @Test
+    void invalidPercentile() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new LatencyHistogram().percentile(101));
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * This file is part of the Yildiz-Engine project, licenced under the MIT License  (MIT)
+ *  Copyright (c) 2026 Grégory Van den Borre
+ *  More infos available: https://engine.yildiz-games.be
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ *  documentation files (the "Software"), to deal in the Software without restriction, including without limitation
+ *  the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ *  permit persons to whom the Software is furnished to do so, subject to the following conditions: The above copyright
+ *  notice and this permission notice shall be included in all copies or substantial portions of the  Software.
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ *  WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS
+ *  OR COPYRIGHT  HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ *  OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package be.yildizgames.module.http.java;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.net.http.HttpRequest;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author Grégory Van den Borre
+ */
+class BodyPipeTest {
+
+    @Test
+    void largeBody() {
+        var body = new byte[1024 * 1024];
+        for (int i = 0; i < body.length; i++) {
+            body[i] = (byte) i;
+        }
+        var received = read(BodyPipe.publisher(out -> {
+            for (int i = 0; i < body.length; i += 1000) {
+                out.write(body, i, Math.min(1000, body.length - i));
+            }
+        }));
+        Assertions.assertArrayEquals(body, received.orTimeout(30, TimeUnit.SECONDS).join());
+    }
+
+    @Test
+    void failureIsPropagated() {
+        var failure = new IllegalStateException("codec failure");
+        var received = read(BodyPipe.publisher(out -> {
+            out.write(new byte[100]);
+            throw failure;
+        }));
+        var error = Assertions.assertThrows(Exception.class, () -> received.orTimeout(30, TimeUnit.SECONDS).join());
+        var cause = error.getCause();
+        while (cause != null && cause != failure) {
+            cause = cause.getCause();
+        }
+        Assertions.assertSame(failure, cause);
+    }
+
+    /**
+     * Read a publisher as the client does, from a virtual thread.
+     */
+    private static CompletableFuture<byte[]> read(HttpRequest.BodyPublisher publisher) {
+        var result = new CompletableFuture<byte[]>();
+        var chunks = new ArrayList<ByteBuffer>();
+        Thread.ofVirtual().start(() -> publisher.subscribe(new Flow.Subscriber<>() {
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                subscription.request(Long.MAX_VALUE);
+            }
+
+            @Override
+            public void onNext(ByteBuffer item) {
+                chunks.add(item);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                result.completeExceptionally(throwable);
+            }
+
+            @Override
+            public void onComplete() {
+                result.complete(concat(chunks));
+            }
+        }));
+        return result;
+    }
+
+    private static byte[] concat(List<ByteBuffer> chunks) {
+        var out = new ByteArrayOutputStream();
+        for (var chunk : chunks) {
+            var bytes = new byte[chunk.remaining()];
+            chunk.get(bytes);
+            out.writeBytes(bytes);
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,1230 @@
+/*
+ * This file is part of the Yildiz-Engine project, licenced under the MIT License  (MIT)
+ *  Copyright (c) 2026 Grégory Van den Borre
+ *  More infos available: https://engine.yildiz-games.be
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ *  documentation files (the "Software"), to deal in the Software without restriction, including without limitation
+ *  the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ *  permit persons to whom the Software is furnished to do so, subject to the following conditions: The above copyright
+ *  notice and this permission notice shall be included in all copies or substantial portions of the  Software.
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ *  WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS
+ *  OR COPYRIGHT  HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ *  OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package be.yildizgames.module.http.java;
+
+import be.yildizgames.module.http.AsyncHttpClient;
+import be.yildizgames.module.http.BandwidthPolicy;
+import be.yildizgames.module.http.BodyCodec;
+import be.yildizgames.module.http.CircuitBreakerOpenException;
+import be.yildizgames.module.http.CircuitBreakerPolicy;
+import be.yildizgames.module.http.HedgePolicy;
+import be.yildizgames.module.http.HistogramHttpClientMetrics;
+import be.yildizgames.module.http.HttpClient;
+import be.yildizgames.module.http.HttpClientBuilder;
+import be.yildizgames.module.http.HttpClientConfiguration;
+import be.yildizgames.module.http.HttpClientMetrics;
+import be.yildizgames.module.http.HttpRequestTimings;
+import be.yildizgames.module.http.HttpResponseBehavior;
+import be.yildizgames.module.http.Headers;
+import be.yildizgames.module.http.HttpTransferListener;
+import be.yildizgames.module.http.ProgressPolicy;
+import be.yildizgames.module.http.RetryPolicy;
+import be.yildizgames.module.http.TransferProgress;
+import be.yildizgames.module.http.TypeReference;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.Type;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * @author Grégory Van den Borre
+ */
+class JavaHttpClientTest {
+
+    private static final byte[] FILE = new byte[100_000];
+
+    private static final String LAST_MODIFIED = "Wed, 21 Oct 2015 07:28:00 GMT";
+
+    static {
+        for (int i = 0; i < FILE.length; i++) {
+            FILE[i] = (byte) i;
+        }
+    }
+
+    private final AtomicLong served = new AtomicLong();
+
+    private final AtomicInteger flakyCalls = new AtomicInteger();
+
+    private final AtomicInteger slowCalls = new AtomicInteger();
+
+    private final AtomicInteger hedgedCalls = new AtomicInteger();
+
+    private final AtomicInteger droppedCalls = new AtomicInteger();
+
+    private final List<Integer> warmUps = new CopyOnWriteArrayList<>();
+
+    private HttpServer server;
+
+    private URI base;
+
+    @BeforeEach
+    void start() throws IOException {
+        this.server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        // platform threads: the server socket reads are synchronized and would pin the carrier of a virtual thread,
+        // starving the client virtual threads writing the request bodies on a single core machine.
+        this.server.setExecutor(task -> Thread.ofPlatform().daemon().start(task));
+        this.server.createContext("/text", e -> {
+            var body = "hello".getBytes(StandardCharsets.UTF_8);
+            e.sendResponseHeaders(200, body.length);
+            e.getResponseBody().write(body);
+            e.close();
+        });
+        this.server.createContext("/", e -> {
+            if ("HEAD".equals(e.getRequestMethod())) {
+                this.warmUps.add(e.getRemoteAddress().getPort());
+            }
+            e.sendResponseHeaders(404, -1);
+            e.close();
+        });
+        this.server.createContext("/port", e -> {
+            var body = String.valueOf(e.getRemoteAddress().getPort()).getBytes(StandardCharsets.UTF_8);
+            e.sendResponseHeaders(200, body.length);
+            e.getResponseBody().write(body);
+            e.close();
+        });
+        this.server.createContext("/missing", e -> {
+            e.sendResponseHeaders(404, -1);
+            e.close();
+        });
+        this.server.createContext("/ranged", e -> this.ranged(e, "\"v1\"", null));
+        this.server.createContext("/weak", e -> this.ranged(e, "W/\"v1\"", LAST_MODIFIED));
+        this.server.createContext("/weakOnly", e -> this.ranged(e, "W/\"v1\"", null));
+        this.server.createContext("/upload", e -> {
+            var received = e.getRequestBody().readAllBytes().length + ":" + e.getRequestHeaders().getFirst("Transfer-Encoding");
+            var body = received.getBytes(StandardCharsets.UTF_8);
+            e.sendResponseHeaders(200, body.length);
+            e.getResponseBody().write(body);
+            e.close();
+        });
+        this.server.createContext("/echo", e -> {
+            var body = e.getRequestBody().readAllBytes();
+            e.sendResponseHeaders(200, body.length);
+            e.getResponseBody().write(body);
+            e.close();
+        });
+        this.server.createContext("/file", e -> {
+            e.sendResponseHeaders(200, FILE.length);
+            e.getResponseBody().write(FILE);
+            e.close();
+        });
+        this.server.createContext("/large", e -> {
+            e.sendResponseHeaders(200, 0);
+            try (var out = e.getResponseBody()) {
+                for (int i = 0; i < 256; i++) {
+                    out.write(FILE);
+                }
+            } catch (IOException ex) {
+                // the client stopped reading.
+            }
+        });
+        this.server.createContext("/flaky", e -> {
+            e.getRequestBody().readAllBytes();
+            if (this.flakyCalls.incrementAndGet() <= 2) {
+                e.sendResponseHeaders(503, -1);
+            } else {
+                var body = "recovered".getBytes(StandardCharsets.UTF_8);
+                e.sendResponseHeaders(200, body.length);
+                e.getResponseBody().write(body);
+            }
+            e.close();
+        });
+        this.server.createContext("/sometimes-slow", e -> {
+            if (this.slowCalls.incrementAndGet() == 21) {
+                try {
+                    Thread.sleep(5000);
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            var body = "fast".getBytes(StandardCharsets.UTF_8);
+            e.sendResponseHeaders(200, body.length);
+            e.getResponseBody().write(body);
+            e.close();
+        });
+        this.server.createContext("/hedged", e -> {
+            if (this.hedgedCalls.incrementAndGet() == 21) {
+                try {
+                    Thread.sleep(5000);
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            var body = "fast".getBytes(StandardCharsets.UTF_8);
+            e.sendResponseHeaders(200, body.length);
+            e.getResponseBody().write(body);
+            e.close();
+        });
+        this.server.createContext("/dropped", e -> {
+            e.sendResponseHeaders(200, FILE.length);
+            if (this.droppedCalls.incrementAndGet() == 1) {
+                e.getResponseBody().write(FILE, 0, FILE.length / 2);
+                e.getResponseBody().flush();
+                // Closing before the declared length is written drops the connection.
+                e.close();
+                return;
+            }
+            e.getResponseBody().write(FILE);
+            e.close();
+        });
+        this.server.createContext("/compressed", e -> {
+            var accepted = String.valueOf(e.getRequestHeaders().getFirst("Accept-Encoding"));
+            if (accepted.contains("gzip")) {
+                var compressed = new ByteArrayOutputStream();
+                try (var out = new GZIPOutputStream(compressed)) {
+                    out.write(FILE);
+                }
+                e.getResponseHeaders().add("Content-Encoding", "gzip");
+                e.sendResponseHeaders(200, compressed.size());
+                compressed.writeTo(e.getResponseBody());
+            } else {
+                e.sendResponseHeaders(200, FILE.length);
+                e.getResponseBody().write(FILE);
+            }
+            e.close();
+        });
+        this.server.createContext("/compressed-empty", e -> {
+            e.getResponseHeaders().add("Content-Encoding", "gzip");
+            e.sendResponseHeaders(204, -1);
+            e.close();
+        });
+        this.server.createContext("/inflate", e -> {
+            var encoding = String.valueOf(e.getRequestHeaders().getFirst("Content-Encoding"));
+            var in = "gzip".equals(encoding) ? new GZIPInputStream(e.getRequestBody()) : e.getRequestBody();
+            var body = (encoding + ":" + new String(in.readAllBytes(), StandardCharsets.UTF_8)).getBytes(StandardCharsets.UTF_8);
+            e.sendResponseHeaders(200, body.length);
+            e.getResponseBody().write(body);
+            e.close();
+        });
+        this.server.createContext("/records", e -> {
+            var body = new StringBuilder();
+            if ("ndjson".equals(e.getRequestURI().getQuery())) {
+                for (int i = 0; i < 1000; i++) {
+                    body.append("{\"id\":").append(i).append("}\n");
+                }
+            } else {
+                body.append('[');
+                for (int i = 0; i < 1000; i++) {
+                    body.append(i == 0 ? "" : ",").append("{\"id\":").append(i).append('}');
+                }
+                body.append(']');
+            }
+            var bytes = body.toString().getBytes(StandardCharsets.UTF_8);
+            e.sendResponseHeaders(200, bytes.length);
+            e.getResponseBody().write(bytes);
+            e.close();
+        });
+        this.server.start();
+        this.base = URI.create("http://localhost:" + this.server.getAddress().getPort());
+    }
+
+    /**
+     * Serve FILE with ranges, the whole file is sent when If-Range is weak or does not match, as required by RFC 9110.
+     */
+    private void ranged(HttpExchange e, String etag, String lastModified) throws IOException {
+        e.getResponseHeaders().add("Accept-Ranges", "bytes");
+        e.getResponseHeaders().add("ETag", etag);
+        if (lastModified != null) {
+            e.getResponseHeaders().add("Last-Modified", lastModified);
+        }
+        var ifRange = e.getRequestHeaders().getFirst("If-Range");
+        var range = e.getRequestHeaders().getFirst("Range");
+        if ("HEAD".equals(e.getRequestMethod())) {
+            e.getResponseHeaders().add("Content-Length", String.valueOf(FILE.length));
+            e.sendResponseHeaders(200, -1);
+        } else if (range == null || ifRange != null && (ifRange.startsWith("W/") || !ifRange.equals(etag) && !ifRange.equals(lastModified))) {
+            this.served.addAndGet(FILE.length);
+            e.sendResponseHeaders(200, FILE.length);
+            e.getResponseBody().write(FILE);
+        } else {
+            var bounds = range.substring("bytes=".length()).split("-");
+            var start = Integer.parseInt(bounds[0]);
+            var end = Integer.parseInt(bounds[1]);
+            this.served.addAndGet(end - start + 1);
+            e.sendResponseHeaders(206, end - start + 1);
+            e.getResponseBody().write(FILE, start, end - start + 1);
+        }
+        e.close();
+    }
+
+    @AfterEach
+    void stop() {
+        this.server.stop(0);
+    }
+
+    @Nested
+    class Blocking {
+
+        @Test
+        void getText() {
+            try (var client = new JavaHttpClientBuilder().buildHttpClient()) {
+                Assertions.assertEquals("hello", client.getText(base.resolve("/text")));
+            }
+        }
+
+        @Test
+        void getTextError() {
+            try (var client = new JavaHttpClientBuilder().buildHttpClient()) {
+                Assertions.assertThrows(IllegalStateException.class, () -> client.getText(base.resolve("/missing")));
+            }
+        }
+
+        @Test
+        void receiveFile(@TempDir Path folder) throws IOException {
+            try (var client = new JavaHttpClientBuilder().withVirtualThreads().buildHttpClient(5000)) {
+                var total = new AtomicLong();
+                client.addTransferListener((uri, last, all) -> total.set(all));
+                var destination = folder.resolve("file.txt");
+                client.receiveFile(base.resolve("/text"), destination);
+                Assertions.assertEquals("hello", Files.readString(destination));
+                Assertions.assertEquals(5, total.get());
+            }
+        }
+    }
+
+    @Nested
+    class Progress {
+
+        @Test
+        void coalesced(@TempDir Path folder) {
+            try (var client = new JavaHttpClientBuilder()
+                    .withProgressPolicy(ProgressPolicy.defaultPolicy().withInterval(Duration.ofHours(1)).withThreshold(0))
+                    .buildHttpClient()) {
+                var calls = new AtomicInteger();
+                var events = new CopyOnWriteArrayList<TransferProgress>();
+                var virtual = new CopyOnWriteArrayList<Boolean>();
+                client.addTransferListener(new HttpTransferListener() {
+                    @Override
+                    public void received(URI uri, long lastTransferred, long totalTransferred) {
+                        calls.incrementAndGet();
+                    }
+
+                    @Override
+                    public void progress(TransferProgress progress) {
+                        virtual.add(Thread.currentThread().isVirtual());
+                        events.add(progress);
+                    }
+                });
+                client.receiveFile(base.resolve("/file"), folder.resolve("file.bin"));
+                Assertions.assertEquals(List.of(true), virtual);
+                Assertions.assertEquals(1, calls.get());
+                Assertions.assertEquals(1, events.size());
+                var last = events.get(0);
+                Assertions.assertTrue(last.complete());
+                Assertions.assertEquals(FILE.length, last.transferred());
+                Assertions.assertEquals(FILE.length, last.contentLength());
+                Assertions.assertEquals(100, last.percentage());
+                Assertions.assertTrue(last.throughput() > 0);
+            }
+        }
+
+        @Test
+        void failingListener(@TempDir Path folder) throws IOException {
+            try (var client = new JavaHttpClientBuilder().withProgressPolicy(ProgressPolicy.defaultPolicy().withThreshold(0)).buildHttpClient()) {
+                var total = new AtomicLong();
+                client.addTransferListener((uri, last, sum) -> {
+                    throw new IllegalStateException("Failing listener.");
+                });
+                client.addTransferListener((uri, last, sum) -> total.set(sum));
+                client.receiveFile(base.resolve("/file"), folder.resolve("file.bin"));
+                Assertions.assertEquals(FILE.length, Files.size(folder.resolve("file.bin")));
+                Assertions.assertEquals(FILE.length, total.get());
+                var buffer = ByteBuffer.allocate(FILE.length);
+                client.receiveBuffer(base.resolve("/file"), buffer);
+                Assertions.assertEquals(FILE.length, buffer.position());
+            }
+        }
+
+        @Test
+        void builderExecutor(@TempDir Path folder) {
+            try (var client = new JavaHttpClientBuilder()
+                    .withExecutor(task -> Thread.ofPlatform().name("custom").start(task))
+                    .withProgressPolicy(ProgressPolicy.defaultPolicy().withThreshold(0))
+                    .buildHttpClient()) {
+                var threads = new CopyOnWriteArrayList<String>();
+                client.addTransferListener((uri, last, total) -> threads.add(Thread.currentThread().getName()));
+                client.receiveFile(base.resolve("/file"), folder.resolve("file.bin"));
+                Assertions.assertFalse(threads.isEmpty());
+                Assertions.assertEquals(List.of("custom"), threads.stream().distinct().toList());
+            }
+        }
+
+        @Test
+        void perUri(@TempDir Path folder) {
+            try (var client = new JavaHttpClientBuilder().buildHttpClient()) {
+                var file = new AtomicLong();
+                var all = new AtomicLong();
+                HttpTransferListener listener = (uri, last, total) -> file.set(total);
+                client.addTransferListener(base.resolve("/file"), listener);
+                client.addTransferListener((uri, last, total) -> all.addAndGet(last));
+                client.receiveFile(base.resolve("/text"), folder.resolve("text.txt"));
+                Assertions.assertEquals(0, file.get());
+                client.receiveFile(base.resolve("/file"), folder.resolve("file.bin"));
+                Assertions.assertEquals(FILE.length, file.get());
+                Assertions.assertEquals(FILE.length + 5, all.get());
+                client.removeTransferListener(listener);
+                file.set(0);
+                client.receiveFile(base.resolve("/file"), folder.resolve("file.bin"));
+                Assertions.assertEquals(0, file.get());
+            }
+        }
+
+        @Test
+        void upload(@TempDir Path folder) throws IOException {
+            try (var client = new JavaHttpClientBuilder().buildHttpClient()) {
+                var file = folder.resolve("upload.bin");
+                Files.write(file, FILE);
+                var last = new AtomicReference<TransferProgress>();
+                var received = new AtomicInteger();
+                client.addTransferListener(new HttpTransferListener() {
+                    @Override
+                    public void received(URI uri, long lastTransferred, long totalTransferred) {
+                        received.incrementAndGet();
+                    }
+
+                    @Override
+                    public void progress(TransferProgress progress) {
+                        last.set(progress);
+                    }
+                });
+                client.sendFile(base.resolve("/upload"), file, "application/octet-stream");
+                Assertions.assertEquals(0, received.get(), "No download expected.");
+                Assertions.assertEquals(TransferProgress.Direction.SENT, last.get().direction());
+                Assertions.assertTrue(last.get().complete());
+                Assertions.assertEquals(FILE.length, last.get().transferred());
+            }
+        }
+    }
+
+    @Nested
+    class Bandwidth {
+
+        @Test
+        void download(@TempDir Path folder) {
+            try (var client = new JavaHttpClientBuilder()
+                    .withBandwidthPolicy(BandwidthPolicy.unlimited().withMaxBytesPerSecondPerHost(200_000).withBurst(Duration.ofMillis(100)))
+                    .buildHttpClient()) {
+                var last = new AtomicReference<TransferProgress>();
+                client.addTransferListener(new HttpTransferListener() {
+                    @Override
+                    public void received(URI uri, long lastTransferred, long totalTransferred) {
+                        // only the progress is checked.
+                    }
+
+                    @Override
+                    public void progress(TransferProgress progress) {
+                        last.set(progress);
+                    }
+                });
+                var start = System.nanoTime();
+                client.receiveFile(base.resolve("/file"), folder.resolve("file.bin"));
+                Assertions.assertTrue(System.nanoTime() - start >= Duration.ofMillis(300).toNanos());
+                Assertions.assertTrue(last.get().throttled().toMillis() > 0);
+                Assertions.assertEquals(FILE.length, last.get().transferred());
+            }
+        }
+
+        @Test
+        void upload(@TempDir Path folder) throws IOException {
+            var file = Files.write(folder.resolve("file.bin"), FILE);
+            try (var client = new JavaHttpClientBuilder()
+                    .withConfiguration(HttpClientConfiguration.defaultConfiguration().withUploadBufferSize(8192))
+                    .withBandwidthPolicy(BandwidthPolicy.unlimited().withMaxBytesPerSecond(200_000).withBurst(Duration.ofMillis(100)))
+                    .buildHttpClient()) {
+                var start = System.nanoTime();
+                var result = new AtomicReference<String>();
+                client.sendFileResponse(base.resolve("/upload"), file, "application/octet-stream").handle((code, headers, body) -> result.set(body));
+                Assertions.assertTrue(System.nanoTime() - start >= Duration.ofMillis(300).toNanos());
+                Assertions.assertEquals(FILE.length + ":null", result.get());
+            }
+        }
+
+        @Test
+        void interactiveFirst(@TempDir Path folder) {
+            try (var client = new JavaHttpClientBuilder()
+                    .withConfiguration(HttpClientConfiguration.defaultConfiguration().withMaxConnectionsPerHost(1))
+                    .withBandwidthPolicy(BandwidthPolicy.unlimited().withMaxBytesPerSecond(200_000).withBurst(Duration.ofMillis(100)))
+                    .buildAsyncHttpClient()) {
+                var order = new CopyOnWriteArrayList<String>();
+                var first = client.receiveFile(base.resolve("/file"), folder.resolve("first.bin")).thenRun(() -> order.add("first"));
+                var second = client.receiveFile(base.resolve("/file"), folder.resolve("second.bin")).thenRun(() -> order.add("second"));
+                var text = client.getText(base.resolve("/text")).thenRun(() -> order.add("text"));
+                CompletableFuture.allOf(first, second, text).join();
+                Assertions.assertEquals(List.of("first", "text", "second"), order);
+            }
+        }
+    }
+
+    @Nested
+    class Lifecycle {
+
+        @Test
+        void warmUp() {
+            try (var client = new JavaHttpClientBuilder()
+                    .withConfiguration(HttpClientConfiguration.defaultConfiguration().withPreferHttp2(false))
+                    .buildHttpClient()) {
+                client.warmUp(List.of(base.resolve("/text"), base.resolve("/file"), URI.create("ftp://localhost/file"))).join();
+                Assertions.assertEquals(1, warmUps.size());
+                Assertions.assertEquals(String.valueOf(warmUps.getFirst()), client.getText(base.resolve("/port")));
+            }
+        }
+
+        @Test
+        void close() {
+            var client = new JavaHttpClientBuilder().buildAsyncHttpClient();
+            Assertions.assertEquals("hello", client.getText(base.resolve("/text")).join().getBody());
+            client.close();
+            Assertions.assertTrue(client.getText(base.resolve("/text")).join().getError().isPresent());
+        }
+
+        @Test
+        void shared() {
+            var client = HttpClient.shared();
+            Assertions.assertSame(client, HttpClient.shared());
+            client.close();
+            Assertions.assertEquals("hello", client.getText(base.resolve("/text")));
+            AsyncHttpClient.shared().close();
+            Assertions.assertEquals("hello", AsyncHttpClient.shared().getText(base.resolve("/text")).join().getBody());
+        }
+
+        @Test
+        void provide() {
+            Assertions.assertInstanceOf(JavaHttpClientBuilder.class, HttpClientBuilder.provide());
+            Assertions.assertNotSame(HttpClientBuilder.provide(), HttpClientBuilder.provide());
+        }
+    }
+
+    @Nested
+    class Segmented {
+
+        @Test
+        void happyFlow(@TempDir Path folder) throws IOException {
+            try (var client = new JavaHttpClientBuilder().buildHttpClient()) {
+                var total = new AtomicLong();
+                client.addTransferListener((uri, last, all) -> total.accumulateAndGet(all, Math::max));
+                var destination = folder.resolve("file.bin");
+                client.receiveFile(base.resolve("/ranged"), destination, 4);
+                Assertions.assertArrayEquals(FILE, Files.readAllBytes(destination));
+                Assertions.assertEquals(FILE.length, total.get());
+                Assertions.assertEquals(FILE.length, served.get());
+                Assertions.assertFalse(Files.exists(folder.resolve("file.bin.part.state")));
+            }
+        }
+
+        @Test
+        void resume(@TempDir Path folder) throws IOException {
+            var part = new byte[FILE.length];
+            System.arraycopy(FILE, 0, part, 0, 30_000);
+            Files.write(folder.resolve("file.bin.part"), part);
+            Files.writeString(folder.resolve("file.bin.part.state"), FILE.length + "\n\"v1\"\n0 49999 30000\n50000 99999 50000\n");
+            try (var client = new JavaHttpClientBuilder().buildHttpClient()) {
+                var destination = folder.resolve("file.bin");
+                client.receiveFile(base.resolve("/ranged"), destination, 2);
+                Assertions.assertArrayEquals(FILE, Files.readAllBytes(destination));
+                Assertions.assertEquals(70_000, served.get());
+            }
+        }
+
+        @Test
+        void weakEtag(@TempDir Path folder) throws IOException {
+            try (var client = new JavaHttpClientBuilder().buildHttpClient()) {
+                var destination = folder.resolve("file.bin");
+                client.receiveFile(base.resolve("/weak"), destination, 4);
+                Assertions.assertArrayEquals(FILE, Files.readAllBytes(destination));
+                Assertions.assertEquals(FILE.length, served.get());
+            }
+        }
+
+        @Test
+        void weakEtagOnly(@TempDir Path folder) throws IOException {
+            try (var client = new JavaHttpClientBuilder().buildHttpClient()) {
+                var destination = folder.resolve("file.bin");
+                client.receiveFile(base.resolve("/weakOnly"), destination, 4);
+                Assertions.assertArrayEquals(FILE, Files.readAllBytes(destination));
+                Assertions.assertFalse(Files.exists(folder.resolve("file.bin.part")));
+            }
+        }
+
+        @Test
+        void progressSaved(@TempDir Path folder) throws Exception {
+            try (var client = new JavaHttpClientBuilder()
+                    .withBandwidthPolicy(BandwidthPolicy.unlimited().withMaxBytesPerSecond(40_000).withBurst(Duration.ofMillis(100)))
+                    .buildAsyncHttpClient()) {
+                var destination = folder.resolve("file.bin");
+                var download = client.receiveFile(base.resolve("/ranged"), destination, 2);
+                Thread.sleep(1_500);
+                var saved = Files.readAllLines(folder.resolve("file.bin.part.state")).stream()
+                        .skip(2)
+                        .map(l -> l.split(" "))
+                        .mapToLong(v -> Long.parseLong(v[2]) - Long.parseLong(v[0]))
+                        .sum();
+                Assertions.assertTrue(saved > 0);
+                download.join();
+                Assertions.assertArrayEquals(FILE, Files.readAllBytes(destination));
+            }
+        }
+
+        @Test
+        void noRangeSupport(@TempDir Path folder) throws IOException {
+            try (var client = new JavaHttpClientBuilder().buildHttpClient()) {
+                var destination = folder.resolve("file.txt");
+                client.receiveFile(base.resolve("/text"), destination, 4);
+                Assertions.assertEquals("hello", Files.readString(destination));
+            }
+        }
+    }
+
+    @Nested
+    class Upload {
+
+        @Test
+        void withLength(@TempDir Path folder) throws IOException {
+            var file = Files.write(folder.resolve("file.bin"), FILE);
+            try (var client = new JavaHttpClientBuilder()
+                    .withConfiguration(HttpClientConfiguration.defaultConfiguration().withUploadBufferSize(1024))
+                    .buildHttpClient()) {
+                var sent = new AtomicLong();
+                var sum = new AtomicLong();
+                var received = new AtomicInteger();
+                client.addTransferListener(new HttpTransferListener() {
+                    @Override
+                    public void received(URI uri, long lastTransferred, long totalTransferred) {
+                        received.incrementAndGet();
+                    }
+
+                    @Override
+                    public void sent(URI uri, long lastTransferred, long totalTransferred) {
+                        sum.addAndGet(lastTransferred);
+                        sent.set(totalTransferred);
+                    }
+                });
+                var result = new AtomicReference<String>();
+                client.sendFileResponse(base.resolve("/upload"), file, "application/octet-stream").handle((code, headers, body) -> result.set(body));
+                Assertions.assertEquals(FILE.length + ":null", result.get());
+                Assertions.assertEquals(0, received.get());
+                Assertions.assertEquals(FILE.length, sent.get());
+                Assertions.assertEquals(FILE.length, sum.get());
+            }
+        }
+
+        @Test
+        void chunked(@TempDir Path folder) throws IOException {
+            var file = Files.write(folder.resolve("file.bin"), FILE);
+            try (var client = new JavaHttpClientBuilder()
+                    .withConfiguration(HttpClientConfiguration.defaultConfiguration().withChunkedUpload(true).withPreferHttp2(false))
+                    .buildHttpClient()) {
+                var result = new AtomicReference<String>();
+                client.sendFileResponse(base.resolve("/upload"), file, "application/octet-stream").handle((code, headers, body) -> result.set(body));
+                Assertions.assertEquals(FILE.length + ":chunked", result.get());
+            }
+        }
+    }
+
+    @Nested
+    class Codec {
+
+        private final BodyCodec codec = new BodyCodec() {
+            @Override
+            public String mediaType() {
+                return "text/csv";
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public <T> T decode(InputStream body, Type type) throws IOException {
+                Assertions.assertEquals(new TypeReference<List<String>>() {}.getType(), type);
+                return (T) List.of(new String(body.readAllBytes(), StandardCharsets.UTF_8).split(","));
+            }
+
+            @Override
+            public void encode(Object value, OutputStream body) throws IOException {
+                body.write(String.join(",", (List<String>) value).getBytes(StandardCharsets.UTF_8));
+            }
+        };
+
+        @Test
+        void genericType() {
+            try (var client = new JavaHttpClientBuilder().withCodec(this.codec).buildHttpClient()) {
+                var result = new AtomicReference<List<String>>();
+                var response = client.getObjectResponse(base.resolve("/text"), new TypeReference<List<String>>() {});
+                response.handle((code, headers, body) -> result.set(body));
+                Assertions.assertEquals(List.of("hello"), result.get());
+            }
+        }
+
+        @Test
+        void streamedPost() {
+            try (var client = new JavaHttpClientBuilder().withCodec(this.codec).buildHttpClient()) {
+                var result = new AtomicReference<String>();
+                client.postObject(base.resolve("/echo").toString(), List.of("a", "b"), String.class).handle((code, headers, body) -> result.set(body));
+                Assertions.assertEquals("a,b", result.get());
+            }
+        }
+
+        @Test
+        void elements() {
+            try (var client = new JavaHttpClientBuilder().withCodec(new IdCodec()).buildHttpClient()) {
+                try (var ids = client.getObjectStream(base.resolve("/records"), Integer.class)) {
+                    Assertions.assertEquals(499500, ids.mapToInt(Integer::intValue).sum());
+                }
+            }
+        }
+
+        @Test
+        void newLineDelimitedElements() {
+            try (var client = new JavaHttpClientBuilder().withCodec(new IdCodec()).buildHttpClient()) {
+                try (var ids = client.getObjectStream(base.resolve("/records?ndjson"), Integer.class)) {
+                    Assertions.assertEquals(List.of(0, 1, 2), ids.limit(3).toList());
+                }
+            }
+        }
+
+        @Test
+        void decodedOnExecutor() {
+            var thread = new AtomicReference<String>();
+            try (var client = new JavaHttpClientBuilder()
+                    .withExecutor(task -> Thread.ofPlatform().name("custom").start(task))
+                    .withCodec(new BodyCodec() {
+                        @Override
+                        public String mediaType() {
+                            return "text/plain";
+                        }
+
+                        @Override
+                        @SuppressWarnings("unchecked")
+                        public <T> T decode(InputStream body, Type type) throws IOException {
+                            thread.set(Thread.currentThread().getName());
+                            return (T) new String(body.readAllBytes(), StandardCharsets.UTF_8);
+                        }
+
+                        @Override
+                        public void encode(Object value, OutputStream body) {
+                            throw new UnsupportedOperationException();
+                        }
+                    })
+                    .buildAsyncHttpClient()) {
+                var response = client.getObject(base.resolve("/text"), CharSequence.class).join();
+                Assertions.assertEquals("custom", thread.get());
+                Assertions.assertTrue(response.getError().isEmpty());
+            }
+        }
+
+        @Test
+        void encodeFailure() {
+            try (var client = new JavaHttpClientBuilder().withCodec(new IdCodec()).buildAsyncHttpClient()) {
+                var response = client.postObject(base.resolve("/echo").toString(), List.of(1), String.class).join();
+                var error = response.getError().orElseThrow();
+                while (error.getCause() != null && !(error instanceof UnsupportedOperationException)) {
+                    error = error.getCause();
+                }
+                Assertions.assertInstanceOf(UnsupportedOperationException.class, error);
+            }
+        }
+
+        @Test
+        void noCodec() {
+            try (var client = new JavaHttpClientBuilder().buildHttpClient()) {
+                Assertions.assertThrows(IllegalStateException.class, () -> client.getObject(base.resolve("/text"), Integer.class));
+            }
+        }
+    }
+
+    /**
+     * Codec reading the id of {"id":n} elements.
+     */
+    private static final class IdCodec implements BodyCodec {
+
+        @Override
+        public String mediaType() {
+            return "application/json";
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> T decode(InputStream body, Type type) throws IOException {
+            var element = new String(body.readAllBytes(), StandardCharsets.UTF_8);
+            return (T) Integer.valueOf(element.substring(element.indexOf(':') + 1, element.indexOf('}')));
+        }
+
+        @Override
+        public void encode(Object value, OutputStream body) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    @Nested
+    class Metrics {
+
+        @Test
+        void requestsAreMeasured() {
+            var metrics = new HistogramHttpClientMetrics();
+            try (var client = new JavaHttpClientBuilder().withMetrics(metrics).buildHttpClient()) {
+                client.getText(base.resolve("/text"));
+                client.postObject(base.resolve("/echo").toString(), "posted", String.class);
+                Assertions.assertThrows(IllegalStateException.class, () -> client.getText(base.resolve("/missing")));
+                Assertions.assertEquals(2, metrics.getSuccessCount());
+                Assertions.assertEquals(1, metrics.getErrorCount());
+                Assertions.assertEquals(3, metrics.getTotal().count());
+                Assertions.assertEquals(3, metrics.getFirstByte().count());
+                Assertions.assertEquals(0, metrics.getConnect().count());
+                Assertions.assertEquals("posted".length(), metrics.getBytesOut());
+                Assertions.assertTrue(metrics.getBytesIn() >= "hello".length() + "posted".length());
+            }
+        }
+
+        @Test
+        void failureIsMeasured() {
+            var timings = new AtomicReference<HttpRequestTimings>();
+            try (var client = new JavaHttpClientBuilder().withMetrics(timings::set).buildAsyncHttpClient()) {
+                client.getText(URI.create("http://localhost:1/none")).join();
+                Assertions.assertTrue(timings.get().getFailure().isPresent());
+                Assertions.assertEquals(-1, timings.get().httpCode());
+            }
+        }
+
+        @Test
+        void closedStreamIsMeasured() throws Exception {
+            var timings = new CopyOnWriteArrayList<HttpRequestTimings>();
+            try (var client = new JavaHttpClientBuilder().withMetrics(timings::add).buildHttpClient();
+                 var stream = client.getInputStream(base.resolve("/large"))) {
+                Assertions.assertNotEquals(-1, stream.read());
+            }
+            for (int i = 0; i < 500 && timings.isEmpty(); i++) {
+                Thread.sleep(10);
+            }
+            Assertions.assertEquals(1, timings.size());
+            Assertions.assertInstanceOf(CancellationException.class, timings.get(0).getFailure().orElseThrow());
+        }
+
+        @Test
+        void poolUsage() {
+            var metrics = new HistogramHttpClientMetrics();
+            try (var client = new JavaHttpClientBuilder()
+                    .withConfiguration(HttpClientConfiguration.defaultConfiguration().withMaxConnectionsPerHost(2))
+                    .withMetrics(metrics)
+                    .buildHttpClient()) {
+                client.getText(base.resolve("/text"));
+                Assertions.assertEquals(1, metrics.getMaxInFlight());
+            }
+        }
+
+        @Test
+        void streamHoldsPermit() throws Exception {
+            try (var client = new JavaHttpClientBuilder()
+                    .withConfiguration(HttpClientConfiguration.defaultConfiguration().withMaxConnectionsPerHost(1))
+                    .buildAsyncHttpClient()) {
+                var stream = client.getInputStream(base.resolve("/file")).join().getBody();
+                var text = client.getText(base.resolve("/text"));
+                Thread.sleep(300);
+                Assertions.assertFalse(text.isDone());
+                stream.close();
+                Assertions.assertEquals("hello", text.get(5, TimeUnit.SECONDS).getBody());
+            }
+        }
+    }
+
+    @Nested
+    class Buffer {
+
+        @Test
+        void direct() {
+            try (var client = new JavaHttpClientBuilder().buildHttpClient()) {
+                var buffer = ByteBuffer.allocateDirect(FILE.length + 10);
+                client.receiveBuffer(base.resolve("/file"), buffer);
+                Assertions.assertEquals(FILE.length, buffer.position());
+                var received = new byte[FILE.length];
+                buffer.flip().get(received);
+                Assertions.assertArrayEquals(FILE, received);
+            }
+        }
+
+        @Test
+        void retriedFromStart() {
+            try (var client = new JavaHttpClientBuilder()
+                    .withRetryPolicy(RetryPolicy.defaultPolicy().withInitialDelay(Duration.ofMillis(1)))
+                    .buildHttpClient()) {
+                var buffer = ByteBuffer.allocate(FILE.length + 10);
+                buffer.put(new byte[]{1, 2, 3});
+                client.receiveBuffer(base.resolve("/dropped"), buffer);
+                Assertions.assertEquals(2, droppedCalls.get());
+                Assertions.assertEquals(FILE.length + 3, buffer.position());
+                var received = new byte[FILE.length];
+                buffer.flip().position(3);
+                buffer.get(received);
+                Assertions.assertArrayEquals(FILE, received);
+                Assertions.assertEquals(1, buffer.get(0));
+            }
+        }
+
+        @Test
+        void tooSmall() {
+            try (var client = new JavaHttpClientBuilder().buildHttpClient()) {
+                Assertions.assertThrows(IllegalStateException.class, () -> client.receiveBuffer(base.resolve("/file"), ByteBuffer.allocateDirect(100)));
+            }
+        }
+
+        @Test
+        void errorCode() {
+            try (var client = new JavaHttpClientBuilder().buildAsyncHttpClient()) {
+                var buffer = ByteBuffer.allocate(10);
+                Assertions.assertEquals(404, client.receiveBuffer(base.resolve("/missing"), buffer).join().getHttpCode());
+                Assertions.assertEquals(0, buffer.position());
+            }
+        }
+
+        @Test
+        void mapped(@TempDir Path folder) throws IOException {
+            try (var client = new JavaHttpClientBuilder().buildAsyncHttpClient()) {
+                var destination = folder.resolve("mapped.bin");
+                try (var channel = FileChannel.open(destination, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                    var region = channel.map(FileChannel.MapMode.READ_WRITE, 0, FILE.length);
+                    Assertions.assertEquals(200, client.receiveBuffer(base.resolve("/file"), region).join().getHttpCode());
+                    region.force();
+                }
+                Assertions.assertArrayEquals(FILE, Files.readAllBytes(destination));
+            }
+        }
+
+        @Test
+        void publisher() {
+            try (var client = new JavaHttpClientBuilder().buildAsyncHttpClient()) {
+                var response = client.getPublisher(base.resolve("/file")).join();
+                var subscriber = java.net.http.HttpResponse.BodySubscribers.ofByteArray();
+                response.getBody().subscribe(subscriber);
+                Assertions.assertArrayEquals(FILE, subscriber.getBody().toCompletableFuture().join());
+            }
+        }
+
+        @Test
+        void fromBlocking() {
+            try (var client = AsyncHttpClient.fromBlocking(new JavaHttpClientBuilder().buildHttpClient())) {
+                var buffer = ByteBuffer.allocate(FILE.length);
+                Assertions.assertEquals(200, client.receiveBuffer(base.resolve("/file"), buffer).join().getHttpCode());
+                Assertions.assertFalse(buffer.hasRemaining());
+            }
+        }
+    }
+
+    @Nested
+    class Compression {
+
+        @Test
+        void stream() throws IOException {
+            try (var client = new JavaHttpClientBuilder().buildHttpClient()) {
+                try (var in = client.getInputStream(base.resolve("/compressed"))) {
+                    Assertions.assertArrayEquals(FILE, in.readAllBytes());
+                }
+            }
+        }
+
+        @Test
+        void emptyStream() throws IOException {
+            try (var client = new JavaHttpClientBuilder().buildHttpClient();
+                 var in = client.getInputStream(base.resolve("/compressed-empty"))) {
+                Assertions.assertEquals(-1, in.read());
+            }
+        }
+
+        @Test
+        void bytes() {
+            try (var client = new JavaHttpClientBuilder().buildAsyncHttpClient()) {
+                var response = ((JavaAsyncHttpClient) client).getBytes(base.resolve("/compressed"), Headers.empty()).join();
+                Assertions.assertArrayEquals(FILE, response.getBody());
+            }
+        }
+
+        @Test
+        void disabled() {
+            try (var client = new JavaHttpClientBuilder()
+                    .withConfiguration(HttpClientConfiguration.defaultConfiguration().withResponseCompression(false))
+                    .buildAsyncHttpClient()) {
+                var response = ((JavaAsyncHttpClient) client).getBytes(base.resolve("/compressed"), Headers.empty()).join();
+                Assertions.assertArrayEquals(FILE, response.getBody());
+                Assertions.assertTrue(response.getHeaders().values("Content-Encoding").isEmpty());
+            }
+        }
+
+        @Test
+        void fileKeepsEncoding(@TempDir Path folder) throws IOException {
+            try (var client = new JavaHttpClientBuilder().buildHttpClient()) {
+                var destination = folder.resolve("raw.bin");
+                client.receiveFile(base.resolve("/compressed"), destination);
+                Assertions.assertArrayEquals(FILE, Files.readAllBytes(destination));
+            }
+        }
+
+        @Test
+        void request(@TempDir Path folder) throws IOException {
+            try (var client = new JavaHttpClientBuilder()
+                    .withConfiguration(HttpClientConfiguration.defaultConfiguration().withRequestCompression("gzip"))
+                    .buildAsyncHttpClient()) {
+                var file = folder.resolve("upload.txt");
+                Files.writeString(file, "compressed upload");
+                var response = client.sendFile(base.resolve("/inflate"), file, "text/plain").join();
+                Assertions.assertEquals("gzip:compressed upload", response.getBody());
+            }
+        }
+
+        @Test
+        void largeRequestOnVirtualThreads(@TempDir Path folder) throws IOException {
+            try (var client = new JavaHttpClientBuilder()
+                    .withConfiguration(HttpClientConfiguration.defaultConfiguration().withRequestCompression("gzip"))
+                    .withVirtualThreads()
+                    .buildAsyncHttpClient()) {
+                var random = new Random(42);
+                var content = new StringBuilder();
+                while (content.length() < 1024 * 1024) {
+                    content.append((char) ('a' + random.nextInt(26)));
+                }
+                var file = Files.writeString(folder.resolve("upload.txt"), content);
+                var response = client.sendFile(base.resolve("/inflate"), file, "text/plain").orTimeout(30, TimeUnit.SECONDS).join();
+                Assertions.assertEquals("gzip:" + content, response.getBody());
+            }
+        }
+
+        @Test
+        void unknownRequestEncoding() {
+            var builder = new JavaHttpClientBuilder()
+                    .withConfiguration(HttpClientConfiguration.defaultConfiguration().withRequestCompression("zstd"));
+            Assertions.assertThrows(IllegalArgumentException.class, builder::buildHttpClient);
+        }
+    }
+
+    @Nested
+    class Resilience {
+
+        @Test
+        void retry() {
+            var metrics = new HistogramHttpClientMetrics();
+            try (var client = new JavaHttpClientBuilder()
+                    .withRetryPolicy(RetryPolicy.defaultPolicy().withInitialDelay(Duration.ofMillis(1)))
+                    .withMetrics(metrics)
+                    .buildHttpClient()) {
+                Assertions.assertEquals("recovered", client.getText(base.resolve("/flaky")));
+                Assertions.assertEquals(3, flakyCalls.get());
+                Assertions.assertEquals(2, metrics.getRetryCount());
+            }
+        }
+
+        @Test
+        void retryExhausted() {
+            try (var client = new JavaHttpClientBuilder()
+                    .withRetryPolicy(RetryPolicy.defaultPolicy().withMaxAttempts(2).withInitialDelay(Duration.ofMillis(1)))
+                    .buildAsyncHttpClient()) {
+                Assertions.assertEquals(503, client.getText(base.resolve("/flaky")).join().getHttpCode());
+                Assertions.assertEquals(2, flakyCalls.get());
+            }
+        }
+
+        @Test
+        void postIsNotRetried() {
+            try (var client = new JavaHttpClientBuilder()
+                    .withRetryPolicy(RetryPolicy.defaultPolicy().withInitialDelay(Duration.ofMillis(1)))
+                    .buildAsyncHttpClient()) {
+                var response = client.postObject(base.resolve("/flaky").toString(), "posted", String.class).join();
+                Assertions.assertEquals(503, response.getHttpCode());
+                Assertions.assertEquals(1, flakyCalls.get());
+            }
+        }
+
+        @Test
+        void hedge() {
+            try (var client = new JavaHttpClientBuilder()
+                    .withHedgePolicy(HedgePolicy.afterPercentile(90).withMinDelay(Duration.ofMillis(50)))
+                    .buildHttpClient()) {
+                for (int i = 0; i < 20; i++) {
+                    client.getText(base.resolve("/sometimes-slow"));
+                }
+                Assertions.assertEquals("fast", client.getText(base.resolve("/sometimes-slow")));
+                // The slow attempt is still sleeping, only a hedged attempt can have answered.
+                Assertions.assertEquals(22, slowCalls.get());
+            }
+        }
+
+        @Test
+        void hedgeLoserCancelled() throws InterruptedException {
+            var inFlight = new AtomicInteger();
+            try (var client = new JavaHttpClientBuilder()
+                    .withHedgePolicy(HedgePolicy.afterPercentile(90).withMinDelay(Duration.ofMillis(50)))
+                    .withConfiguration(HttpClientConfiguration.defaultConfiguration().withMaxConnectionsPerHost(4))
+                    .withMetrics(new HttpClientMetrics() {
+                        @Override
+                        public void completed(HttpRequestTimings timings) {
+                            // Not needed.
+                        }
+
+                        @Override
+                        public void poolUsage(String host, int used, int waiting, int limit) {
+                            inFlight.set(used);
+                        }
+                    })
+                    .buildHttpClient()) {
+                for (int i = 0; i < 20; i++) {
+                    client.getText(base.resolve("/hedged"));
+                }
+                Assertions.assertEquals("fast", client.getText(base.resolve("/hedged")));
+                for (int i = 0; i < 100 && inFlight.get() != 0; i++) {
+                    Thread.sleep(10);
+                }
+                Assertions.assertEquals(0, inFlight.get());
+            }
+        }
+
+        @Test
+        void circuitBreaker() {
+            try (var client = new JavaHttpClientBuilder()
+                    .withCircuitBreakerPolicy(new CircuitBreakerPolicy(2, Duration.ofMinutes(1)))
+                    .buildAsyncHttpClient()) {
+                var unreachable = URI.create("http://localhost:1/none");
+                Assertions.assertFalse(client.getText(unreachable).join().getError().orElseThrow() instanceof CircuitBreakerOpenException);
+                Assertions.assertFalse(client.getText(unreachable).join().getError().orElseThrow() instanceof CircuitBreakerOpenException);
+                Assertions.assertInstanceOf(CircuitBreakerOpenException.class, client.getText(unreachable).join().getError().orElseThrow());
+                Assertions.assertEquals(200, client.getText(base.resolve("/text")).join().getHttpCode());
+            }
+        }
+
+        @Test
+        void circuitBreakerTrial() throws InterruptedException {
+            try (var client = new JavaHttpClientBuilder()
+                    .withCircuitBreakerPolicy(new CircuitBreakerPolicy(1, Duration.ofMillis(50)))
+                    .buildAsyncHttpClient()) {
+                var flaky = base.resolve("/flaky");
+                Assertions.assertEquals(503, client.getText(flaky).join().getHttpCode());
+                Assertions.assertInstanceOf(CircuitBreakerOpenException.class, client.getText(flaky).join().getError().orElseThrow());
+                Thread.sleep(100);
+                Assertions.assertEquals(503, client.getText(flaky).join().getHttpCode());
+                Thread.sleep(100);
+                Assertions.assertEquals("recovered", client.getText(flaky).join().getBody());
+                Assertions.assertEquals("recovered", client.getText(flaky).join().getBody());
+            }
+        }
+    }
+
+    @Nested
+    class NonBlocking {
+
+        @Test
+        void getText() {
+            try (var client = new JavaHttpClientBuilder().buildAsyncHttpClient()) {
+                var result = new AtomicReference<String>();
+                client.getText(base.resolve("/text")).thenAccept(r -> r.handle((code, headers, body) -> result.set(body))).join();
+                Assertions.assertEquals("hello", result.get());
+            }
+        }
+
+        @Test
+        void getTextBatch() {
+            try (var client = new JavaHttpClientBuilder().buildAsyncHttpClient()) {
+                var uris = List.of(base.resolve("/text"), base.resolve("/missing"), base.resolve("/text"), base.resolve("/text"));
+                var result = client.getTextBatch(uris, 2).join();
+                Assertions.assertEquals(4, result.responses().size());
+                Assertions.assertEquals(3, result.successes().size());
+                Assertions.assertEquals(base.resolve("/missing"), result.failures().get(0).uri());
+                Assertions.assertEquals("hello", result.successes().get(0).response().getBody());
+            }
+        }
+
+        @Test
+        void getTextError() {
+            try (var client = new JavaHttpClientBuilder().buildAsyncHttpClient()) {
+                var result = new AtomicReference<Integer>();
+                client.getText(base.resolve("/missing")).thenAccept(r -> r.handle(new HttpResponseBehavior<>() {
+                    @Override
+                    public void onHttpSuccess(int httpCode, Headers headers, String body) {
+                        Assertions.fail();
+                    }
+
+                    @Override
+                    public void onHttpError(int httpCode, Headers headers, String body) {
+                        result.set(httpCode);
+                    }
+                })).join();
+                Assertions.assertEquals(404, result.get());
+            }
+        }
+
+        @Test
+        void failure() {
+            try (var client = new JavaHttpClientBuilder().buildAsyncHttpClient()) {
+                var result = new AtomicReference<Throwable>();
+                client.getText("not a valid uri").thenAccept(r -> r.handle(new HttpResponseBehavior<>() {
+                    @Override
+                    public void onHttpSuccess(int httpCode, Headers headers, String body) {
+                        Assertions.fail();
+                    }
+
+                    @Override
+                    public void onCallFailure(Throwable t) {
+                        result.set(t);
+                    }
+                })).join();
+                Assertions.assertNotNull(result.get());
+            }
+        }
+    }
+
+    @Test
+    void provide() {
+        Assertions.assertInstanceOf(JavaHttpClientBuilder.class, HttpClientBuilder.provide());
+    }
+
+    @Test
+    void provideOnClassPath() throws Exception {
+        var classes = HttpClientBuilder.class.getProtectionDomain().getCodeSource().getLocation();
+        try (var loader = new URLClassLoader(new URL[]{classes}, ClassLoader.getPlatformClassLoader())) {
+            var registration = loader.getResource("META-INF/services/" + HttpClientBuilder.class.getName());
+            Assertions.assertNotNull(registration);
+            try (var in = registration.openStream()) {
+                var name = new String(in.readAllBytes(), StandardCharsets.UTF_8).trim();
+                var service = Class.forName(HttpClientBuilder.class.getName(), false, loader);
+                var provider = Class.forName(name, false, loader);
+                Assertions.assertEquals(JavaHttpClientBuilder.class.getName(), provider.getName());
+                Assertions.assertTrue(service.isAssignableFrom(provider));
+            }
+        }
+    }
+}